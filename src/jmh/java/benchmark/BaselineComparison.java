@@ -0,0 +1,235 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Сравнивает JSON-результаты JMH с базовой линией и завершается с кодом 1 при регрессии. */
+public final class BaselineComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10;
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Использование: BaselineComparison <baseline.json> <result.json> [допуск, %]");
+            System.exit(2);
+        }
+        double tolerance = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT) / 100;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("НОВЫЙ     %s: %.3f %s%n", entry.getKey(), now.score, now.unit);
+                continue;
+            }
+            boolean slower = now.score < before.score * (1 - tolerance);
+            boolean allocates = !Double.isNaN(now.allocation) && !Double.isNaN(before.allocation)
+                    && now.allocation > before.allocation * (1 + tolerance) + ALLOCATION_SLACK_BYTES;
+            if (slower || allocates) {
+                regressions++;
+            }
+            System.out.printf("%-9s %s: %.3f -> %.3f %s (%+.1f%%), %s -> %s B/op%n",
+                    slower || allocates ? "РЕГРЕССИЯ" : "OK", entry.getKey(),
+                    before.score, now.score, now.unit, (now.score / before.score - 1) * 100,
+                    bytes(before.allocation), bytes(now.allocation));
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.println("ПРОПУЩЕН  " + name);
+            }
+        }
+        System.out.println(regressions == 0 ? "Регрессий нет." : "Регрессий: " + regressions);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    private static String bytes(double allocation) {
+        return Double.isNaN(allocation) ? "?" : String.format("%.0f", allocation);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Result> read(Path file) throws IOException {
+        Object json = new JsonReader(Files.readString(file, StandardCharsets.UTF_8)).read();
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Object item : (List<Object>) json) {
+            Map<String, Object> run = (Map<String, Object>) item;
+            StringBuilder name = new StringBuilder((String) run.get("benchmark"));
+            if (run.get("params") instanceof Map<?, ?> params) {
+                params.forEach((key, value) -> name.append(':').append(key).append('=').append(value));
+            }
+            name.append(" [").append(run.get("mode")).append(']');
+
+            Map<String, Object> primary = (Map<String, Object>) run.get("primaryMetric");
+            double allocation = Double.NaN;
+            if (run.get("secondaryMetrics") instanceof Map<?, ?> secondary) {
+                for (Map.Entry<?, ?> metric : secondary.entrySet()) {
+                    if (metric.getKey().toString().endsWith(ALLOCATION_METRIC)) {
+                        allocation = ((Number) ((Map<String, Object>) metric.getValue()).get("score")).doubleValue();
+                    }
+                }
+            }
+            results.put(name.toString(), new Result(((Number) primary.get("score")).doubleValue(),
+                    (String) primary.get("scoreUnit"), allocation));
+        }
+        return results;
+    }
+
+    record Result(double score, String unit, double allocation) {
+    }
+
+    private static final class JsonReader {
+
+        private final String text;
+        private int position;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object read() {
+            skipWhitespace();
+            char c = peek();
+            return switch (c) {
+                case '{' -> readObject();
+                case '[' -> readArray();
+                case '"' -> readString();
+                case 't', 'f', 'n' -> readLiteral();
+                default -> readNumber();
+            };
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                object.put(key, read());
+                skipWhitespace();
+                if (peek() == ',') {
+                    position++;
+                } else {
+                    expect('}');
+                    return object;
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return array;
+            }
+            while (true) {
+                array.add(read());
+                skipWhitespace();
+                if (peek() == ',') {
+                    position++;
+                } else {
+                    expect(']');
+                    return array;
+                }
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        value.append((char) Integer.parseInt(text, position, position + 4, 16));
+                        position += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            }
+        }
+
+        private Object readLiteral() {
+            for (String literal : new String[]{"true", "false", "null"}) {
+                if (text.startsWith(literal, position)) {
+                    position += literal.length();
+                    return literal.equals("null") ? null : Boolean.valueOf(literal);
+                }
+            }
+            throw error("ожидается true, false или null");
+        }
+
+        private Double readNumber() {
+            int start = position;
+            while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                if (text.startsWith("NaN", position)) {
+                    position += 3;
+                    return Double.NaN;
+                }
+                throw error("ожидается значение");
+            }
+            return Double.valueOf(text.substring(start, position));
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw error("неожиданный конец файла");
+            }
+            return text.charAt(position);
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("ожидается '" + c + "'");
+            }
+            position++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Некорректный JSON в позиции " + position + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Временный кластер PostgreSQL, если доступны {@code initdb} и {@code pg_ctl} (не под root), иначе H2 в памяти. */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    static final String DATABASE_PROPERTY = "documents.benchmark.database";
+    static final String POSTGRES_BIN_PROPERTY = "documents.benchmark.postgres-bin";
+
+    private final String url;
+    private final String username;
+    private final Path pgCtl;
+    private final Path dataDirectory;
+
+    private BenchmarkDatabase(String url, String username, Path pgCtl, Path dataDirectory) {
+        this.url = url;
+        this.username = username;
+        this.pgCtl = pgCtl;
+        this.dataDirectory = dataDirectory;
+    }
+
+    static BenchmarkDatabase start() throws IOException, InterruptedException {
+        String database = System.getProperty(DATABASE_PROPERTY, "auto");
+        Path bin = database.equals("h2") ? null : findPostgresBin();
+        if (bin != null) {
+            return startPostgres(bin);
+        }
+        if (database.equals("postgres")) {
+            throw new IllegalStateException("Не найдены initdb и pg_ctl; укажите каталог в -D" + POSTGRES_BIN_PROPERTY);
+        }
+        return new BenchmarkDatabase("jdbc:h2:mem:documents-" + System.nanoTime()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1", "sa", null, null);
+    }
+
+    boolean isPostgres() {
+        return pgCtl != null;
+    }
+
+    String[] springArguments(String... extra) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=",
+                "--spring.sql.init.platform=" + (isPostgres() ? "postgresql" : "h2")));
+        for (String property : extra) {
+            arguments.add("--" + property);
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        if (pgCtl == null) {
+            return;
+        }
+        try {
+            run(pgCtl.toString(), "-D", dataDirectory.toString(), "-m", "fast", "-w", "stop");
+        } finally {
+            try (Stream<Path> files = Files.walk(dataDirectory)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static BenchmarkDatabase startPostgres(Path bin) throws IOException, InterruptedException {
+        Path data = Files.createTempDirectory("documents-postgres");
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        run(bin.resolve("initdb").toString(), "-D", data.toString(), "-U", "postgres", "-A", "trust", "-E", "UTF8");
+        Path pgCtl = bin.resolve("pg_ctl");
+        run(pgCtl.toString(), "-D", data.toString(), "-l", data.resolve("server.log").toString(),
+                "-o", "-p " + port + " -k " + data, "-w", "start");
+        return new BenchmarkDatabase("jdbc:postgresql://localhost:" + port + "/postgres", "postgres", pgCtl, data);
+    }
+
+    private static Path findPostgresBin() {
+        String configured = System.getProperty(POSTGRES_BIN_PROPERTY);
+        if (configured != null) {
+            return Path.of(configured);
+        }
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String directory : path.split(File.pathSeparator)) {
+            Path bin = Path.of(directory);
+            if (Files.isExecutable(bin.resolve("initdb")) && Files.isExecutable(bin.resolve("pg_ctl"))) {
+                return bin;
+            }
+        }
+        return null;
+    }
+
+    private static void run(String... command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IOException("Команда завершилась с ошибкой: " + String.join(" ", command) + "\n" + output);
+        }
+    }
+}
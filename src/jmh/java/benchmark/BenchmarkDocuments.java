@@ -0,0 +1,27 @@
+package benchmark;
+
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+final class BenchmarkDocuments {
+
+    static final Invoice INVOICE = new Invoice(1024, "100245", LocalDate.of(2023, 11, 14), "Иванов Петр",
+            new BigDecimal("125000.50"), "RUB", new BigDecimal("1.00"), "Бумага офисная", new BigDecimal("250"));
+
+    static final Payment PAYMENT = new Payment(2048, "55210", LocalDate.of(2023, 11, 14), "Кузнецова Мария",
+            new BigDecimal("48700.00"), "Смирнов Алексей");
+
+    static final PaymentOrder PAYMENT_ORDER = new PaymentOrder(4096, "77031", LocalDate.of(2023, 11, 15), "Сидорова Анна",
+            "Ромашка и партнеры", new BigDecimal("98000.00"), "USD", new BigDecimal("92.45"), new BigDecimal("150.00"));
+
+    private BenchmarkDocuments() {
+    }
+
+    static String blockBody(String block) {
+        return block.substring(block.indexOf('\n') + 1);
+    }
+}
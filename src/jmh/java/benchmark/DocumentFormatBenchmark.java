@@ -0,0 +1,56 @@
+package benchmark;
+
+import documents.service.DocumentProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentFormatBenchmark {
+
+    private final DocumentProcessingService documentProcessingService = new DocumentProcessingService();
+    private final StringBuilder out = new StringBuilder(512);
+
+    @Benchmark
+    public String convertInvoiceToString() {
+        return documentProcessingService.convertInvoiceToString(BenchmarkDocuments.INVOICE);
+    }
+
+    @Benchmark
+    public String convertPaymentToString() {
+        return documentProcessingService.convertPaymentToString(BenchmarkDocuments.PAYMENT);
+    }
+
+    @Benchmark
+    public String convertPaymentOrderToString() {
+        return documentProcessingService.convertPaymentOrderToString(BenchmarkDocuments.PAYMENT_ORDER);
+    }
+
+    @Benchmark
+    public int writeInvoice() throws IOException {
+        out.setLength(0);
+        documentProcessingService.writeInvoice(BenchmarkDocuments.INVOICE, out);
+        return out.length();
+    }
+
+    @Benchmark
+    public int writePaymentOrder() throws IOException {
+        out.setLength(0);
+        documentProcessingService.writePaymentOrder(BenchmarkDocuments.PAYMENT_ORDER, out);
+        return out.length();
+    }
+}
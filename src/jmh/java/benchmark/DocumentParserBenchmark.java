@@ -0,0 +1,52 @@
+package benchmark;
+
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.service.DocumentParserService;
+import documents.service.DocumentProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentParserBenchmark {
+
+    private final DocumentParserService documentParserService = new DocumentParserService();
+    private final DocumentProcessingService documentProcessingService = new DocumentProcessingService();
+
+    private final String invoiceBlock = BenchmarkDocuments.blockBody(
+            documentProcessingService.convertInvoiceToString(BenchmarkDocuments.INVOICE));
+    private final String paymentBlock = BenchmarkDocuments.blockBody(
+            documentProcessingService.convertPaymentToString(BenchmarkDocuments.PAYMENT));
+    private final String paymentOrderBlock = BenchmarkDocuments.blockBody(
+            documentProcessingService.convertPaymentOrderToString(BenchmarkDocuments.PAYMENT_ORDER));
+
+    @Benchmark
+    public Invoice parseInvoice() {
+        return documentParserService.parseInvoice(invoiceBlock);
+    }
+
+    @Benchmark
+    public Payment parsePayment() {
+        return documentParserService.parsePayment(paymentBlock);
+    }
+
+    @Benchmark
+    public PaymentOrder parsePaymentOrder() {
+        return documentParserService.parsePaymentOrder(paymentOrderBlock);
+    }
+}
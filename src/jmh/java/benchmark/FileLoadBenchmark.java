@@ -0,0 +1,93 @@
+package benchmark;
+
+import documents.codec.DocumentSchemas;
+import documents.exception.ServiceOperationException;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.service.InvoiceService;
+import documents.service.PaymentOrderService;
+import documents.service.PaymentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileLoadBenchmark {
+
+    private final InvoiceService invoiceService = new InvoiceService(null);
+    private final PaymentService paymentService = new PaymentService(null);
+    private final PaymentOrderService paymentOrderService = new PaymentOrderService(null);
+
+    private Path directory;
+    private String invoiceFile;
+    private String paymentFile;
+    private String paymentOrderFile;
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        directory = Files.createTempDirectory("documents-benchmark");
+        Path invoice = directory.resolve("invoice.txt");
+        try (Writer writer = Files.newBufferedWriter(invoice, StandardCharsets.UTF_8)) {
+            DocumentSchemas.INVOICE.getFileCodec().write(BenchmarkDocuments.INVOICE, writer);
+        }
+        Path payment = directory.resolve("payment.txt");
+        try (Writer writer = Files.newBufferedWriter(payment, StandardCharsets.UTF_8)) {
+            DocumentSchemas.PAYMENT.getFileCodec().write(BenchmarkDocuments.PAYMENT, writer);
+        }
+        Path paymentOrder = directory.resolve("payment-order.txt");
+        try (Writer writer = Files.newBufferedWriter(paymentOrder, StandardCharsets.UTF_8)) {
+            DocumentSchemas.PAYMENT_ORDER.getFileCodec().write(BenchmarkDocuments.PAYMENT_ORDER, writer);
+        }
+        invoiceFile = invoice.toString();
+        paymentFile = payment.toString();
+        paymentOrderFile = paymentOrder.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Invoice loadInvoiceFromFile() throws ServiceOperationException {
+        return invoiceService.loadInvoiceFromFile(invoiceFile);
+    }
+
+    @Benchmark
+    public Payment loadPaymentFromFile() throws ServiceOperationException {
+        return paymentService.loadPaymentFromFile(paymentFile);
+    }
+
+    @Benchmark
+    public PaymentOrder loadPaymentOrderFromFile() throws ServiceOperationException {
+        return paymentOrderService.loadPaymentOrderFromFile(paymentOrderFile);
+    }
+}
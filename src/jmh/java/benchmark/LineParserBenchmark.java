@@ -0,0 +1,115 @@
+package benchmark;
+
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.service.InvoiceProcessingService;
+import documents.service.PaymentOrderProcessingService;
+import documents.service.PaymentProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineParserBenchmark {
+
+    private final InvoiceProcessingService invoiceProcessingService = new InvoiceProcessingService();
+    private final PaymentProcessingService paymentProcessingService = new PaymentProcessingService();
+    private final PaymentOrderProcessingService paymentOrderProcessingService = new PaymentOrderProcessingService();
+    private final StringBuilder out = new StringBuilder(256);
+
+    private final String invoiceLine = "100245,2023-11-14,Иванов Пётр,125000.50,RUB,1.00,Бумага офисная А4,250";
+    private final String paymentLine = "55210,2023-11-14,Кузнецова Мария,48700.00,Смирнов Алексей";
+    private final String paymentOrderLine = "77031,2023-11-15,Сидорова Анна,ООО Ромашка,98000.00,USD,92.45,150.00";
+
+    @Benchmark
+    public Invoice invoiceSplit() {
+        String[] parts = invoiceLine.split(",");
+        return Invoice.builder()
+                .number(parts[0])
+                .date(LocalDate.parse(parts[1], DateTimeFormatter.ISO_LOCAL_DATE))
+                .user(parts[2])
+                .amount(new BigDecimal(parts[3]))
+                .currency(parts[4])
+                .currencyRate(new BigDecimal(parts[5]))
+                .product(parts[6])
+                .quantity(new BigDecimal(parts[7]))
+                .build();
+    }
+
+    @Benchmark
+    public Invoice invoiceTokenizer() {
+        return invoiceProcessingService.parseInvoiceFromLine(invoiceLine);
+    }
+
+    @Benchmark
+    public PaymentOrder paymentOrderSplit() {
+        String[] parts = paymentOrderLine.split(",");
+        return PaymentOrder.builder()
+                .number(parts[0])
+                .date(LocalDate.parse(parts[1], DateTimeFormatter.ISO_LOCAL_DATE))
+                .user(parts[2])
+                .contractor(parts[3])
+                .amount(new BigDecimal(parts[4]))
+                .currency(parts[5])
+                .currencyRate(new BigDecimal(parts[6]))
+                .commission(new BigDecimal(parts[7]))
+                .build();
+    }
+
+    @Benchmark
+    public PaymentOrder paymentOrderTokenizer() {
+        return paymentOrderProcessingService.parsePaymentOrderFromLine(paymentOrderLine);
+    }
+
+    @Benchmark
+    public Payment paymentTokenizer() {
+        return paymentProcessingService.parsePaymentFromLine(paymentLine);
+    }
+
+    @Benchmark
+    public String formatInvoiceForFile() {
+        return invoiceProcessingService.formatInvoiceForFile(BenchmarkDocuments.INVOICE);
+    }
+
+    @Benchmark
+    public String formatPaymentForFile() {
+        return paymentProcessingService.formatPaymentForFile(BenchmarkDocuments.PAYMENT);
+    }
+
+    @Benchmark
+    public String formatPaymentOrderForFile() {
+        return paymentOrderProcessingService.formatPaymentOrderForFile(BenchmarkDocuments.PAYMENT_ORDER);
+    }
+
+    @Benchmark
+    public int writeInvoiceForFile() throws IOException {
+        out.setLength(0);
+        invoiceProcessingService.writeInvoiceForFile(BenchmarkDocuments.INVOICE, out);
+        return out.length();
+    }
+
+    @Benchmark
+    public int writePaymentOrderForFile() throws IOException {
+        out.setLength(0);
+        paymentOrderProcessingService.writePaymentOrderForFile(BenchmarkDocuments.PAYMENT_ORDER, out);
+        return out.length();
+    }
+}
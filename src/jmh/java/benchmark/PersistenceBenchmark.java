@@ -0,0 +1,218 @@
+package benchmark;
+
+import documents.MySpringApplication;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.repository.InvoiceRepository;
+import documents.service.BulkLoadService;
+import documents.service.InvoiceService;
+import documents.service.PaymentOrderService;
+import documents.service.PaymentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+/** Счётчики {@link SqlStatements} — SQL-запросы Hibernate на один вызов сервиса. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-Djava.awt.headless=true"})
+public class PersistenceBenchmark {
+
+    private static final int BULK_SIZE = 1000;
+    private static final int SEED_CHUNK = 10_000;
+    private static final int UPDATE_IDS = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private ConfigurableApplicationContext context;
+    private InvoiceService invoiceService;
+    private PaymentService paymentService;
+    private PaymentOrderService paymentOrderService;
+    private InvoiceRepository invoiceRepository;
+    private BulkLoadService bulkLoadService;
+    private Statistics statistics;
+    private List<Invoice> bulk;
+    private int[] paymentOrderIds;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        database = BenchmarkDatabase.start();
+        context = new SpringApplicationBuilder(MySpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .headless(true)
+                .bannerMode(Banner.Mode.OFF)
+                .run(database.springArguments("spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "documents.bulk-load.copy-enabled=" + database.isPostgres(),
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"));
+        invoiceService = context.getBean(InvoiceService.class);
+        paymentService = context.getBean(PaymentService.class);
+        paymentOrderService = context.getBean(PaymentOrderService.class);
+        invoiceRepository = context.getBean(InvoiceRepository.class);
+        bulkLoadService = context.getBean(BulkLoadService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        seed(PersistenceBenchmark::invoice, bulkLoadService::loadInvoices);
+        seed(PersistenceBenchmark::payment, bulkLoadService::loadPayments);
+        seed(PersistenceBenchmark::paymentOrder, bulkLoadService::loadPaymentOrders);
+        paymentOrderIds = existingIds(context.getBean(JdbcTemplate.class), "payment_orders");
+        bulk = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            bulk.add(invoice(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws Exception {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public Invoice insert(SqlStatements sql) {
+        long before = statistics.getPrepareStatementCount();
+        Invoice saved = invoiceService.createOrUpdateInvoice(invoice(ThreadLocalRandom.current().nextInt(rows)));
+        sql.record(statistics.getPrepareStatementCount() - before);
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public List<Invoice> bulkInsert(SqlStatements sql) {
+        long before = statistics.getPrepareStatementCount();
+        List<Invoice> batch = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            batch.add(invoice(i));
+        }
+        List<Invoice> saved = invoiceRepository.saveAll(batch);
+        sql.record(statistics.getPrepareStatementCount() - before);
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public long bulkLoad() {
+        return bulkLoadService.loadInvoices(bulk);
+    }
+
+    @Benchmark
+    public List<Payment> findAll(SqlStatements sql) {
+        long before = statistics.getPrepareStatementCount();
+        List<Payment> payments = paymentService.getAllPayments();
+        sql.record(statistics.getPrepareStatementCount() - before);
+        return payments;
+    }
+
+    @Benchmark
+    public PaymentOrder update(SqlStatements sql) {
+        int id = paymentOrderIds[ThreadLocalRandom.current().nextInt(paymentOrderIds.length)];
+        long before = statistics.getPrepareStatementCount();
+        PaymentOrder updated = paymentOrderService.updatePaymentOrder(id, paymentOrder(id));
+        sql.record(statistics.getPrepareStatementCount() - before);
+        return updated;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlStatements {
+
+        public long statements;
+        public long calls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            calls = 0;
+        }
+
+        void record(long count) {
+            statements += count;
+            calls++;
+        }
+    }
+
+    private <T> void seed(IntFunction<T> factory, ToLongFunction<List<T>> loader) {
+        List<T> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(factory.apply(i));
+            if (chunk.size() == SEED_CHUNK) {
+                loader.applyAsLong(chunk);
+                chunk.clear();
+            }
+        }
+        loader.applyAsLong(chunk);
+    }
+
+    private static int[] existingIds(JdbcTemplate jdbcTemplate, String table) {
+        Integer min = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + table, Integer.class);
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Integer.class);
+        if (min == null || max == null) {
+            throw new IllegalStateException("Таблица пуста: " + table);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        int[] ids = new int[UPDATE_IDS];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = jdbcTemplate.queryForObject("SELECT id FROM " + table + " WHERE id >= ? ORDER BY id LIMIT 1",
+                    Integer.class, random.nextInt(min, max + 1));
+        }
+        return ids;
+    }
+
+    private static Invoice invoice(int index) {
+        return new Invoice(null, String.valueOf(100_000 + index), LocalDate.of(2023, 1, 1).plusDays(index % 365),
+                "Иванов Петр", BigDecimal.valueOf(10_000 + index % 90_000, 2), "RUB", BigDecimal.ONE,
+                "Бумага офисная", BigDecimal.valueOf(1 + index % 500));
+    }
+
+    private static Payment payment(int index) {
+        return new Payment(null, String.valueOf(200_000 + index), LocalDate.of(2023, 1, 1).plusDays(index % 365),
+                "Кузнецова Мария", BigDecimal.valueOf(5_000 + index % 50_000, 2), "Смирнов Алексей");
+    }
+
+    private static PaymentOrder paymentOrder(int index) {
+        return new PaymentOrder(null, String.valueOf(300_000 + index), LocalDate.of(2023, 1, 1).plusDays(index % 365),
+                "Сидорова Анна", "Ромашка и партнеры", BigDecimal.valueOf(20_000 + index % 80_000, 2), "USD",
+                new BigDecimal("92.45"), new BigDecimal("150.00"));
+    }
+}
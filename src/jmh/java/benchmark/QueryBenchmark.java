@@ -0,0 +1,192 @@
+package benchmark;
+
+import documents.MySpringApplication;
+import documents.generator.GeneratedType;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.repository.InvoiceRepository;
+import documents.repository.PaymentOrderRepository;
+import documents.repository.PaymentRepository;
+import documents.service.DocumentGeneratorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** Перед замерами печатается план каждого запроса, чтобы было видно, какой индекс он использует. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-Djava.awt.headless=true"})
+public class QueryBenchmark {
+
+    private static final int PROBES = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final int RANGE_DAYS = 7;
+    private static final Pageable PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    @Param({"1000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private ConfigurableApplicationContext context;
+    private InvoiceRepository invoiceRepository;
+    private PaymentRepository paymentRepository;
+    private PaymentOrderRepository paymentOrderRepository;
+    private List<Probe> invoices;
+    private List<Probe> payments;
+    private List<Probe> paymentOrders;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        database = BenchmarkDatabase.start();
+        context = new SpringApplicationBuilder(MySpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .headless(true)
+                .bannerMode(Banner.Mode.OFF)
+                .run(database.springArguments("spring.jpa.hibernate.ddl-auto=none",
+                        "documents.bulk-load.copy-enabled=" + database.isPostgres()));
+        invoiceRepository = context.getBean(InvoiceRepository.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+        paymentOrderRepository = context.getBean(PaymentOrderRepository.class);
+
+        DocumentGeneratorService generator = context.getBean(DocumentGeneratorService.class);
+        generator.loadIntoDatabase(GeneratedType.INVOICES, rows, 42);
+        generator.loadIntoDatabase(GeneratedType.PAYMENTS, rows, 42);
+        generator.loadIntoDatabase(GeneratedType.PAYMENT_ORDERS, rows, 42);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (database.isPostgres()) {
+            jdbcTemplate.execute("ANALYZE");
+        }
+        invoices = probes(jdbcTemplate, "invoices", "user_name");
+        payments = probes(jdbcTemplate, "payments", "employee");
+        paymentOrders = probes(jdbcTemplate, "payment_orders", "contractor");
+        explainAll(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws Exception {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public List<Invoice> invoicesByDateRange() {
+        LocalDate from = probe(invoices).date();
+        return invoiceRepository.findByDateBetweenOrderByDateAscIdAsc(from, from.plusDays(RANGE_DAYS), PAGE);
+    }
+
+    @Benchmark
+    public List<Invoice> invoiceByNumber() {
+        return invoiceRepository.findByNumber(probe(invoices).number());
+    }
+
+    @Benchmark
+    public List<Payment> paymentsByNumberPrefix() {
+        return paymentRepository.findByNumberStartingWithOrderByNumberAsc(probe(payments).numberPrefix(), PAGE);
+    }
+
+    @Benchmark
+    public List<Payment> paymentsByUser() {
+        return paymentRepository.findByUserOrderByDateAscIdAsc(probe(payments).user(), PAGE);
+    }
+
+    @Benchmark
+    public List<Payment> paymentsByEmployee() {
+        return paymentRepository.findByEmployeeOrderByDateAscIdAsc(probe(payments).counterparty(), PAGE);
+    }
+
+    @Benchmark
+    public List<PaymentOrder> paymentOrdersByContractor() {
+        return paymentOrderRepository.findByContractorOrderByDateAscIdAsc(probe(paymentOrders).counterparty(), PAGE);
+    }
+
+    private void explainAll(JdbcTemplate jdbcTemplate) {
+        Probe invoice = invoices.get(0);
+        Probe payment = payments.get(0);
+        Probe paymentOrder = paymentOrders.get(0);
+        explain(jdbcTemplate, "invoicesByDateRange",
+                "SELECT * FROM invoices WHERE date BETWEEN ? AND ? ORDER BY date, id LIMIT ?",
+                invoice.date(), invoice.date().plusDays(RANGE_DAYS), PAGE_SIZE);
+        explain(jdbcTemplate, "invoiceByNumber",
+                "SELECT * FROM invoices WHERE number = ?", invoice.number());
+        explain(jdbcTemplate, "paymentsByNumberPrefix",
+                "SELECT * FROM payments WHERE number LIKE ? ORDER BY number LIMIT ?",
+                payment.numberPrefix() + "%", PAGE_SIZE);
+        explain(jdbcTemplate, "paymentsByUser",
+                "SELECT * FROM payments WHERE user_name = ? ORDER BY date, id LIMIT ?", payment.user(), PAGE_SIZE);
+        explain(jdbcTemplate, "paymentsByEmployee",
+                "SELECT * FROM payments WHERE employee = ? ORDER BY date, id LIMIT ?", payment.counterparty(), PAGE_SIZE);
+        explain(jdbcTemplate, "paymentOrdersByContractor",
+                "SELECT * FROM payment_orders WHERE contractor = ? ORDER BY date, id LIMIT ?",
+                paymentOrder.counterparty(), PAGE_SIZE);
+    }
+
+    private void explain(JdbcTemplate jdbcTemplate, String name, String sql, Object... args) {
+        String explain = database.isPostgres() ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ";
+        List<String> plan = jdbcTemplate.queryForList(explain + sql, String.class, args);
+        System.out.println(name + " (" + rows + " строк):");
+        plan.forEach(line -> System.out.println("    " + line));
+    }
+
+    private List<Probe> probes(JdbcTemplate jdbcTemplate, String table, String counterparty) {
+        Integer min = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + table, Integer.class);
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Integer.class);
+        if (min == null || max == null) {
+            throw new IllegalStateException("Таблица пуста: " + table);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        String sql = "SELECT number, date, user_name, " + counterparty + " FROM " + table
+                + " WHERE id >= ? ORDER BY id LIMIT 1";
+        List<Probe> probes = new ArrayList<>(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            probes.add(jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new Probe(rs.getString(1),
+                    rs.getObject(2, LocalDate.class), rs.getString(3), rs.getString(4)),
+                    random.nextInt(min, max + 1)));
+        }
+        return probes;
+    }
+
+    private static Probe probe(List<Probe> probes) {
+        return probes.get(ThreadLocalRandom.current().nextInt(probes.size()));
+    }
+
+    private record Probe(String number, LocalDate date, String user, String counterparty) {
+
+        String numberPrefix() {
+            return number.substring(0, Math.max(1, number.length() - 2));
+        }
+    }
+}
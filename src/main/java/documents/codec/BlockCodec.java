@@ -0,0 +1,51 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+
+import java.io.IOException;
+
+/** Текстовый блок документа: строка с типом и строки {@code "Метка: значение"} по всем полям, включая ID. */
+public final class BlockCodec<T extends DisplayableDocument, B> {
+
+    private static final String SEPARATOR = ": ";
+
+    private final DocumentSchema<T, B> schema;
+    private final FieldDescriptor<T, B, ?>[] fields;
+    private final KeyValueBlockScanner<B, T> scanner;
+
+    BlockCodec(DocumentSchema<T, B> schema) {
+        this.schema = schema;
+        this.fields = schema.fieldArray(true);
+        KeyValueBlockScanner.Builder<B, T> scanner = KeyValueBlockScanner.builder(schema::newBuilder, schema::build);
+        for (FieldDescriptor<T, B, ?> field : fields) {
+            if (field.isRequired()) {
+                scanner.required(field.getLabel(), field::parse);
+            } else {
+                scanner.field(field.getLabel(), field::parse);
+            }
+        }
+        this.scanner = scanner.build();
+    }
+
+    public String format(T document) {
+        return appendTo(document, new StringBuilder(32 * (fields.length + 1))).toString();
+    }
+
+    public StringBuilder appendTo(T document, StringBuilder out) {
+        out.append(schema.getTitle());
+        for (FieldDescriptor<T, B, ?> field : fields) {
+            field.appendTo(document, out.append('\n').append(field.getLabel()).append(SEPARATOR));
+        }
+        return out;
+    }
+
+    public void write(T document, Appendable out) throws IOException {
+        TextOutput output = TextOutput.get();
+        appendTo(document, output.begin());
+        output.copyTo(out);
+    }
+
+    public T parse(CharSequence dataBlock) {
+        return scanner.parse(dataBlock);
+    }
+}
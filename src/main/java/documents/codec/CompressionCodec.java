@@ -0,0 +1,159 @@
+package documents.codec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+public final class CompressionCodec {
+
+    public static final String GZIP_EXTENSION = ".gz";
+    public static final String DEFLATE_EXTENSION = ".deflate";
+
+    public static final CompressionCodec NONE = new CompressionCodec(Format.NONE, Deflater.NO_COMPRESSION);
+    public static final CompressionCodec GZIP = new CompressionCodec(Format.GZIP, Deflater.DEFAULT_COMPRESSION);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Format format;
+    private final int level;
+
+    private CompressionCodec(Format format, int level) {
+        this.format = format;
+        this.level = level;
+    }
+
+    public static CompressionCodec gzip(int level) {
+        return new CompressionCodec(Format.GZIP, checkLevel(level));
+    }
+
+    public static CompressionCodec deflate(int level) {
+        return new CompressionCodec(Format.DEFLATE, checkLevel(level));
+    }
+
+    public static CompressionCodec forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(GZIP_EXTENSION)) {
+            return GZIP;
+        }
+        if (name.endsWith(DEFLATE_EXTENSION)) {
+            return deflate(Deflater.DEFAULT_COMPRESSION);
+        }
+        return NONE;
+    }
+
+    public boolean isCompressed() {
+        return format != Format.NONE;
+    }
+
+    public String fileExtension() {
+        return switch (format) {
+            case NONE -> "";
+            case GZIP -> GZIP_EXTENSION;
+            case DEFLATE -> DEFLATE_EXTENSION;
+        };
+    }
+
+    public OutputStream newOutputStream(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (!isCompressed()) {
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+        try {
+            return new PipelinedOutputStream(compress(out), BUFFER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    public InputStream newInputStream(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (!isCompressed()) {
+            return new BufferedInputStream(in, BUFFER_SIZE);
+        }
+        try {
+            return new PipelinedInputStream(decompress(in), BUFFER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    public BufferedWriter newWriter(Path file, Charset charset) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(newOutputStream(file), charset));
+    }
+
+    public BufferedReader newReader(Path file, Charset charset) throws IOException {
+        return new BufferedReader(new InputStreamReader(newInputStream(file), charset));
+    }
+
+    private OutputStream compress(OutputStream out) throws IOException {
+        return switch (format) {
+            case NONE -> out;
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            case DEFLATE -> new DeflaterOutputStream(out, new Deflater(level), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        };
+    }
+
+    private InputStream decompress(InputStream in) throws IOException {
+        return switch (format) {
+            case NONE -> in;
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+            case DEFLATE -> new InflaterInputStream(in, new Inflater(), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inf.end();
+                    }
+                }
+            };
+        };
+    }
+
+    private static int checkLevel(int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Некорректный уровень сжатия: " + level);
+        }
+        return level;
+    }
+
+    @Override
+    public String toString() {
+        return format == Format.NONE ? "none" : format.name().toLowerCase(Locale.ROOT) + ":" + level;
+    }
+
+    private enum Format {
+        NONE, GZIP, DEFLATE
+    }
+}
@@ -0,0 +1,77 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+
+import java.io.IOException;
+
+/** Строка CSV с полями документа без ID. */
+public final class CsvCodec<T extends DisplayableDocument, B> {
+
+    private static final char SEPARATOR = ',';
+    private static final ThreadLocal<FieldTokenizer> TOKENIZER = ThreadLocal.withInitial(FieldTokenizer::new);
+
+    private final DocumentSchema<T, B> schema;
+    private final FieldDescriptor<T, B, ?>[] fields;
+
+    CsvCodec(DocumentSchema<T, B> schema) {
+        this.schema = schema;
+        this.fields = schema.fieldArray(false);
+    }
+
+    public String format(T document) {
+        return appendTo(document, new StringBuilder(16 * fields.length)).toString();
+    }
+
+    public StringBuilder appendTo(T document, StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.append(SEPARATOR);
+            }
+            FieldDescriptor<T, B, ?> field = fields[i];
+            if (field.getType() == FieldType.TEXT) {
+                FieldTokenizer.appendEscaped((String) field.get(document), out);
+            } else {
+                field.appendTo(document, out);
+            }
+        }
+        return out;
+    }
+
+    public void write(T document, Appendable out) throws IOException {
+        TextOutput output = TextOutput.get();
+        appendTo(document, output.begin());
+        output.copyTo(out);
+    }
+
+    public T parse(CharSequence line) {
+        FieldTokenizer tokenizer = TOKENIZER.get().reset(line);
+        if (tokenizer.fieldCount() < fields.length) {
+            throw new IllegalArgumentException("Некорректный формат строки: " + line);
+        }
+        B builder = schema.newBuilder();
+        try {
+            for (FieldDescriptor<T, B, ?> field : fields) {
+                tokenizer.next();
+                if (field.getType() == FieldType.TEXT) {
+                    String text = tokenizer.text();
+                    field.parse(builder, text, 0, text.length());
+                } else if (field.getType() == FieldType.DATE) {
+                    int date = DateCodec.decode(line, tokenizer.start(), tokenizer.end());
+                    if (date < 0) {
+                        throw new IllegalArgumentException("Ошибка парсинга строки: " + line + " (" + DateCodec.describe(date) + ")");
+                    }
+                    setDate(field, builder, date);
+                } else {
+                    field.parse(builder, line, tokenizer.start(), tokenizer.end());
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Ошибка парсинга строки: " + line, e);
+        }
+        return schema.build(builder);
+    }
+
+    private static <B, V> void setDate(FieldDescriptor<?, B, V> field, B builder, int date) {
+        field.set(builder, field.getType().cast(DateCodec.toLocalDate(date)));
+    }
+}
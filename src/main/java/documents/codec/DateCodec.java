@@ -0,0 +1,152 @@
+package documents.codec;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+
+/** Разбор дат {@code yyyy-MM-dd} без исключений: ошибка возвращается отрицательным кодом. */
+public final class DateCodec {
+
+    public static final int MALFORMED = -1;
+    public static final int INVALID_DATE = -2;
+
+    public static final String CACHE_SIZE_PROPERTY = "documents.date-cache.size";
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final int MAX_YEAR = 9999;
+
+    private static volatile LocalDate[] cache = new LocalDate[cacheSize(DEFAULT_CACHE_SIZE)];
+
+    private DateCodec() {
+    }
+
+    public static int decode(CharSequence text, int start, int end) {
+        if (end - start != ISO_DATE_LENGTH || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+            return MALFORMED;
+        }
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        return pack(year, month, day);
+    }
+
+    public static int decode(ByteBuffer bytes, int start, int end) {
+        if (end - start != ISO_DATE_LENGTH || bytes.get(start + 4) != '-' || bytes.get(start + 7) != '-') {
+            return MALFORMED;
+        }
+        int year = digits(bytes, start, 4);
+        int month = digits(bytes, start + 5, 2);
+        int day = digits(bytes, start + 8, 2);
+        return pack(year, month, day);
+    }
+
+    public static LocalDate parse(CharSequence text, int start, int end) {
+        int date = decode(text, start, end);
+        if (date < 0) {
+            String value = text.subSequence(start, end).toString();
+            throw new DateTimeParseException("Text '" + value + "' could not be parsed as yyyy-MM-dd: " + describe(date), value, 0);
+        }
+        return toLocalDate(date);
+    }
+
+    public static void setCacheSize(int size) {
+        cache = new LocalDate[cacheSize(size)];
+    }
+
+    public static LocalDate toLocalDate(int date) {
+        int year = date >>> 9;
+        int month = date >>> 5 & 0xF;
+        int day = date & 0x1F;
+        LocalDate[] cache = DateCodec.cache;
+        if (cache.length == 0) {
+            return LocalDate.of(year, month, day);
+        }
+        int slot = ((year * 12 + month) * 31 + day) & (cache.length - 1);
+        LocalDate cached = cache[slot];
+        if (cached != null && cached.getDayOfMonth() == day && cached.getMonthValue() == month && cached.getYear() == year) {
+            return cached;
+        }
+        LocalDate value = LocalDate.of(year, month, day);
+        cache[slot] = value;
+        return value;
+    }
+
+    public static String describe(int code) {
+        return switch (code) {
+            case MALFORMED -> "ожидается дата в формате гггг-ММ-дд";
+            case INVALID_DATE -> "такой даты не существует";
+            default -> code >= 0 ? "дата корректна" : "неизвестная ошибка " + code;
+        };
+    }
+
+    public static StringBuilder appendTo(LocalDate date, StringBuilder out) {
+        int year = date.getYear();
+        if (year < 0 || year > MAX_YEAR) {
+            return out.append(date);
+        }
+        appendDigits(out, year, 4);
+        out.append('-');
+        appendDigits(out, date.getMonthValue(), 2);
+        out.append('-');
+        appendDigits(out, date.getDayOfMonth(), 2);
+        return out;
+    }
+
+    public static String format(LocalDate date) {
+        return appendTo(date, new StringBuilder(ISO_DATE_LENGTH)).toString();
+    }
+
+    private static int pack(int year, int month, int day) {
+        if ((year | month | day) < 0) {
+            return MALFORMED;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID_DATE;
+        }
+        return year << 9 | month << 5 | day;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(ByteBuffer bytes, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = bytes.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void appendDigits(StringBuilder out, int value, int count) {
+        for (int divisor = count == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    private static int cacheSize(int requested) {
+        return requested <= 0 ? 0 : Integer.highestOneBit(Math.min(requested, 1 << 16) * 2 - 1);
+    }
+}
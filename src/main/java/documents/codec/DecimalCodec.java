@@ -0,0 +1,54 @@
+package documents.codec;
+
+import java.math.BigDecimal;
+
+public final class DecimalCodec {
+
+    private static final int MAX_COMPACT_DIGITS = 18;
+
+    private DecimalCodec() {
+    }
+
+    public static BigDecimal parse(CharSequence text, int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("Пустое числовое значение");
+        }
+        int position = start;
+        boolean negative = false;
+        char first = text.charAt(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < end; position++) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_COMPACT_DIGITS) {
+                    return slowParse(text, start, end);
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if (c == 'e' || c == 'E') {
+                return slowParse(text, start, end);
+            } else {
+                throw new NumberFormatException("Некорректное число: " + text.subSequence(start, end));
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Некорректное число: " + text.subSequence(start, end));
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private static BigDecimal slowParse(CharSequence text, int start, int end) {
+        return new BigDecimal(text.subSequence(start, end).toString());
+    }
+}
@@ -0,0 +1,28 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+
+public final class DetailsCodec<T extends DisplayableDocument, B> {
+
+    private static final String SEPARATOR = ": ";
+
+    private final DocumentSchema<T, B> schema;
+    private final FieldDescriptor<T, B, ?>[] fields;
+
+    DetailsCodec(DocumentSchema<T, B> schema) {
+        this.schema = schema;
+        this.fields = schema.fieldArray(false);
+    }
+
+    public String format(T document) {
+        return appendTo(document, new StringBuilder(32 * (fields.length + 1))).toString();
+    }
+
+    public StringBuilder appendTo(T document, StringBuilder out) {
+        out.append(schema.getDetailsTitle());
+        for (FieldDescriptor<T, B, ?> field : fields) {
+            field.appendTo(document, out.append('\n').append(field.getDetailsLabel()).append(SEPARATOR));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,126 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** Порядок полей схемы задаёт порядок во всех текстовых и бинарных форматах. */
+public final class DocumentSchema<T extends DisplayableDocument, B> {
+
+    private final Class<T> documentClass;
+    private final String title;
+    private final String encodedTitle;
+    private final String detailsTitle;
+    private final Supplier<B> builderFactory;
+    private final Function<B, T> finisher;
+    private final List<FieldDescriptor<T, B, ?>> fields;
+    private final BlockCodec<T, B> blockCodec;
+    private final CsvCodec<T, B> csvCodec;
+    private final KeyValueFileCodec<T, B> fileCodec;
+    private final DetailsCodec<T, B> detailsCodec;
+
+    private DocumentSchema(Builder<T, B> builder) {
+        this.documentClass = builder.documentClass;
+        this.title = builder.title;
+        this.encodedTitle = Utf8Bytes.encode(builder.title);
+        this.detailsTitle = builder.detailsTitle;
+        this.builderFactory = builder.builderFactory;
+        this.finisher = builder.finisher;
+        this.fields = List.copyOf(builder.fields);
+        this.blockCodec = new BlockCodec<>(this);
+        this.csvCodec = new CsvCodec<>(this);
+        this.fileCodec = new KeyValueFileCodec<>(this);
+        this.detailsCodec = new DetailsCodec<>(this);
+    }
+
+    public static <T extends DisplayableDocument, B> Builder<T, B> builder(Class<T> documentClass, String title, String detailsTitle,
+                                                                           Supplier<B> builderFactory, Function<B, T> finisher) {
+        return new Builder<>(documentClass, title, detailsTitle, builderFactory, finisher);
+    }
+
+    public Class<T> getDocumentClass() {
+        return documentClass;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public boolean hasTitle(CharSequence text) {
+        return (text instanceof Utf8Bytes ? encodedTitle : title).contentEquals(text);
+    }
+
+    public String getDetailsTitle() {
+        return detailsTitle;
+    }
+
+    public List<FieldDescriptor<T, B, ?>> getFields() {
+        return fields;
+    }
+
+    public BlockCodec<T, B> getBlockCodec() {
+        return blockCodec;
+    }
+
+    public CsvCodec<T, B> getCsvCodec() {
+        return csvCodec;
+    }
+
+    public KeyValueFileCodec<T, B> getFileCodec() {
+        return fileCodec;
+    }
+
+    public DetailsCodec<T, B> getDetailsCodec() {
+        return detailsCodec;
+    }
+
+    public B newBuilder() {
+        return builderFactory.get();
+    }
+
+    public T build(B builder) {
+        return finisher.apply(builder);
+    }
+
+    public T cast(DisplayableDocument document) {
+        return documentClass.cast(document);
+    }
+
+    @SuppressWarnings("unchecked")
+    FieldDescriptor<T, B, ?>[] fieldArray(boolean includeIdentifier) {
+        return fields.stream()
+                .filter(field -> includeIdentifier || !field.isIdentifier())
+                .toArray(FieldDescriptor[]::new);
+    }
+
+    public static final class Builder<T extends DisplayableDocument, B> {
+
+        private final Class<T> documentClass;
+        private final String title;
+        private final String detailsTitle;
+        private final Supplier<B> builderFactory;
+        private final Function<B, T> finisher;
+        private final List<FieldDescriptor<T, B, ?>> fields = new ArrayList<>();
+
+        private Builder(Class<T> documentClass, String title, String detailsTitle,
+                        Supplier<B> builderFactory, Function<B, T> finisher) {
+            this.documentClass = documentClass;
+            this.title = title;
+            this.detailsTitle = detailsTitle;
+            this.builderFactory = builderFactory;
+            this.finisher = finisher;
+        }
+
+        public Builder<T, B> field(FieldDescriptor<T, B, ?> field) {
+            fields.add(field);
+            return this;
+        }
+
+        public DocumentSchema<T, B> build() {
+            return new DocumentSchema<>(this);
+        }
+    }
+}
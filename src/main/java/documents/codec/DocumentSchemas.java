@@ -0,0 +1,104 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+
+import java.util.List;
+
+/** Реестр схем всех типов документов: новый тип достаточно описать здесь. */
+public final class DocumentSchemas {
+
+    public static final DocumentSchema<Invoice, Invoice.InvoiceBuilder> INVOICE =
+            DocumentSchema.builder(Invoice.class, "Накладная", "Информация о накладной:",
+                            Invoice::builder, Invoice.InvoiceBuilder::build)
+                    .field(FieldDescriptor.id(Invoice::getId, Invoice.InvoiceBuilder::id))
+                    .field(FieldDescriptor.text("Номер", "Number", Invoice::getNumber, Invoice.InvoiceBuilder::number))
+                    .field(FieldDescriptor.date("Дата", "Date", Invoice::getDate, Invoice.InvoiceBuilder::date))
+                    .field(FieldDescriptor.dictionary("Пользователь", "User", Invoice::getUser, Invoice.InvoiceBuilder::user))
+                    .field(FieldDescriptor.decimal("Сумма", "Amount", Invoice::getAmount, Invoice.InvoiceBuilder::amount))
+                    .field(FieldDescriptor.dictionary("Валюта", "Currency", Invoice::getCurrency, Invoice.InvoiceBuilder::currency))
+                    .field(FieldDescriptor.decimal("Курс валюты", "Currency Rate", Invoice::getCurrencyRate, Invoice.InvoiceBuilder::currencyRate))
+                    .field(FieldDescriptor.dictionary("Товар", "Product", Invoice::getProduct, Invoice.InvoiceBuilder::product))
+                    .field(FieldDescriptor.decimal("Количество", "Quantity", Invoice::getQuantity, Invoice.InvoiceBuilder::quantity))
+                    .build();
+
+    public static final DocumentSchema<Payment, Payment.PaymentBuilder> PAYMENT =
+            DocumentSchema.builder(Payment.class, "Платёжка", "Информация о платёжке:",
+                            Payment::builder, Payment.PaymentBuilder::build)
+                    .field(FieldDescriptor.id(Payment::getId, Payment.PaymentBuilder::id))
+                    .field(FieldDescriptor.text("Номер", "Number", Payment::getNumber, Payment.PaymentBuilder::number))
+                    .field(FieldDescriptor.date("Дата", "Date", Payment::getDate, Payment.PaymentBuilder::date))
+                    .field(FieldDescriptor.dictionary("Пользователь", "User", Payment::getUser, Payment.PaymentBuilder::user))
+                    .field(FieldDescriptor.decimal("Сумма", "Amount", Payment::getAmount, Payment.PaymentBuilder::amount))
+                    .field(FieldDescriptor.dictionary("Сотрудник", "Employee", Payment::getEmployee, Payment.PaymentBuilder::employee))
+                    .build();
+
+    public static final DocumentSchema<PaymentOrder, PaymentOrder.PaymentOrderBuilder> PAYMENT_ORDER =
+            DocumentSchema.builder(PaymentOrder.class, "Заявка на оплату", "Информация о заявке на оплату:",
+                            PaymentOrder::builder, PaymentOrder.PaymentOrderBuilder::build)
+                    .field(FieldDescriptor.id(PaymentOrder::getId, PaymentOrder.PaymentOrderBuilder::id))
+                    .field(FieldDescriptor.text("Номер", "Number", PaymentOrder::getNumber, PaymentOrder.PaymentOrderBuilder::number))
+                    .field(FieldDescriptor.date("Дата", "Date", PaymentOrder::getDate, PaymentOrder.PaymentOrderBuilder::date))
+                    .field(FieldDescriptor.dictionary("Пользователь", "User", PaymentOrder::getUser, PaymentOrder.PaymentOrderBuilder::user))
+                    .field(FieldDescriptor.dictionary("Контрагент", "Contractor", PaymentOrder::getContractor, PaymentOrder.PaymentOrderBuilder::contractor))
+                    .field(FieldDescriptor.decimal("Сумма", "Amount", PaymentOrder::getAmount, PaymentOrder.PaymentOrderBuilder::amount))
+                    .field(FieldDescriptor.dictionary("Валюта", "Currency", PaymentOrder::getCurrency, PaymentOrder.PaymentOrderBuilder::currency))
+                    .field(FieldDescriptor.decimal("Курс Валюты", "Currency Rate", PaymentOrder::getCurrencyRate, PaymentOrder.PaymentOrderBuilder::currencyRate)
+                            .withDetailsLabel("Курс валюты"))
+                    .field(FieldDescriptor.decimal("Комиссия", "Commission", PaymentOrder::getCommission, PaymentOrder.PaymentOrderBuilder::commission))
+                    .build();
+
+    private static final List<DocumentSchema<?, ?>> ALL = List.of(INVOICE, PAYMENT, PAYMENT_ORDER);
+
+    private DocumentSchemas() {
+    }
+
+    public static List<DocumentSchema<?, ?>> all() {
+        return ALL;
+    }
+
+    public static DocumentSchema<?, ?> forDocument(DisplayableDocument document) {
+        for (DocumentSchema<?, ?> schema : ALL) {
+            if (schema.getDocumentClass().isInstance(document)) {
+                return schema;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный тип документа: " + document);
+    }
+
+    public static DocumentSchema<?, ?> forTitle(CharSequence title) {
+        for (DocumentSchema<?, ?> schema : ALL) {
+            if (schema.hasTitle(title)) {
+                return schema;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный тип документа: " + title);
+    }
+
+    public static String toBlock(DisplayableDocument document) {
+        return toBlock(forDocument(document), document);
+    }
+
+    public static StringBuilder appendBlock(DisplayableDocument document, StringBuilder out) {
+        return appendBlock(forDocument(document), document, out);
+    }
+
+    public static String toDetails(DisplayableDocument document) {
+        return toDetails(forDocument(document), document);
+    }
+
+    private static <T extends DisplayableDocument> String toBlock(DocumentSchema<T, ?> schema, DisplayableDocument document) {
+        return schema.getBlockCodec().format(schema.cast(document));
+    }
+
+    private static <T extends DisplayableDocument> StringBuilder appendBlock(DocumentSchema<T, ?> schema,
+                                                                             DisplayableDocument document, StringBuilder out) {
+        return schema.getBlockCodec().appendTo(schema.cast(document), out);
+    }
+
+    private static <T extends DisplayableDocument> String toDetails(DocumentSchema<T, ?> schema, DisplayableDocument document) {
+        return schema.getDetailsCodec().format(schema.cast(document));
+    }
+}
@@ -0,0 +1,111 @@
+package documents.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public final class FieldDescriptor<T, B, V> {
+
+    private static final String ID_LABEL = "ID";
+
+    private final FieldType<V> type;
+    private final Function<T, V> getter;
+    private final BiConsumer<B, V> setter;
+    private final String label;
+    private final String detailsLabel;
+    private final String fileLabel;
+    private final boolean identifier;
+    private final boolean required;
+    private final boolean dictionary;
+
+    private FieldDescriptor(FieldType<V> type, Function<T, V> getter, BiConsumer<B, V> setter,
+                            String label, String detailsLabel, String fileLabel,
+                            boolean identifier, boolean required, boolean dictionary) {
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.label = label;
+        this.detailsLabel = detailsLabel;
+        this.fileLabel = fileLabel;
+        this.identifier = identifier;
+        this.required = required;
+        this.dictionary = dictionary;
+    }
+
+    public static <T, B> FieldDescriptor<T, B, Integer> id(Function<T, Integer> getter, BiConsumer<B, Integer> setter) {
+        return new FieldDescriptor<>(FieldType.INTEGER, getter, setter, ID_LABEL, null, null, true, true, false);
+    }
+
+    public static <T, B> FieldDescriptor<T, B, String> text(String label, String fileLabel,
+                                                            Function<T, String> getter, BiConsumer<B, String> setter) {
+        return new FieldDescriptor<>(FieldType.TEXT, getter, setter, label, label, fileLabel, false, false, false);
+    }
+
+    public static <T, B> FieldDescriptor<T, B, String> dictionary(String label, String fileLabel,
+                                                                  Function<T, String> getter, BiConsumer<B, String> setter) {
+        return new FieldDescriptor<>(FieldType.TEXT, getter, setter, label, label, fileLabel, false, false, true);
+    }
+
+    public static <T, B> FieldDescriptor<T, B, LocalDate> date(String label, String fileLabel,
+                                                               Function<T, LocalDate> getter, BiConsumer<B, LocalDate> setter) {
+        return new FieldDescriptor<>(FieldType.DATE, getter, setter, label, label, fileLabel, false, true, false);
+    }
+
+    public static <T, B> FieldDescriptor<T, B, BigDecimal> decimal(String label, String fileLabel,
+                                                                   Function<T, BigDecimal> getter, BiConsumer<B, BigDecimal> setter) {
+        return new FieldDescriptor<>(FieldType.DECIMAL, getter, setter, label, label, fileLabel, false, true, false);
+    }
+
+    public FieldDescriptor<T, B, V> withDetailsLabel(String detailsLabel) {
+        return new FieldDescriptor<>(type, getter, setter, label, detailsLabel, fileLabel, identifier, required, dictionary);
+    }
+
+    public FieldType<V> getType() {
+        return type;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getDetailsLabel() {
+        return detailsLabel;
+    }
+
+    public String getFileLabel() {
+        return fileLabel;
+    }
+
+    public boolean isIdentifier() {
+        return identifier;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    public boolean isDictionary() {
+        return dictionary;
+    }
+
+    public V get(T document) {
+        return getter.apply(document);
+    }
+
+    public void set(B builder, V value) {
+        setter.accept(builder, value);
+    }
+
+    public void parse(B builder, CharSequence text, int start, int end) {
+        setter.accept(builder, type.parse(text, start, end));
+    }
+
+    public StringBuilder appendTo(T document, StringBuilder out) {
+        return type.appendTo(getter.apply(document), out);
+    }
+
+    public StringBuilder appendPlainTo(T document, StringBuilder out) {
+        return type.appendPlainTo(getter.apply(document), out);
+    }
+}
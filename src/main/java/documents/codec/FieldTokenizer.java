@@ -0,0 +1,161 @@
+package documents.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public final class FieldTokenizer {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CharSequence source;
+    private int limit;
+    private int position;
+    private int fieldStart;
+    private int fieldEnd;
+    private boolean escapedQuotes;
+
+    public FieldTokenizer reset(CharSequence source) {
+        return reset(source, 0, source.length());
+    }
+
+    public FieldTokenizer reset(CharSequence source, int start, int end) {
+        this.source = source;
+        this.limit = end;
+        this.position = start;
+        this.fieldStart = start;
+        this.fieldEnd = start;
+        this.escapedQuotes = false;
+        return this;
+    }
+
+    public int fieldCount() {
+        int saved = position;
+        int count = 0;
+        while (next()) {
+            count++;
+        }
+        position = saved;
+        return count;
+    }
+
+    public boolean next() {
+        if (position > limit) {
+            return false;
+        }
+        escapedQuotes = false;
+        if (position < limit && source.charAt(position) == QUOTE) {
+            fieldStart = position + 1;
+            int i = fieldStart;
+            while (i < limit) {
+                if (source.charAt(i) == QUOTE) {
+                    if (i + 1 < limit && source.charAt(i + 1) == QUOTE) {
+                        escapedQuotes = true;
+                        i += 2;
+                        continue;
+                    }
+                    break;
+                }
+                i++;
+            }
+            if (i >= limit) {
+                // Так выглядит половина значения с переводом строки: вторая половина попала в следующую строку.
+                throw new IllegalArgumentException("Незакрытая кавычка в строке: " + source);
+            }
+            fieldEnd = i;
+            int separator = fieldEnd + 1;
+            while (separator < limit && source.charAt(separator) != SEPARATOR) {
+                separator++;
+            }
+            position = separator + 1;
+        } else {
+            fieldStart = position;
+            int i = position;
+            while (i < limit && source.charAt(i) != SEPARATOR) {
+                i++;
+            }
+            fieldEnd = i;
+            position = i + 1;
+        }
+        return true;
+    }
+
+    public int start() {
+        return fieldStart;
+    }
+
+    public int end() {
+        return fieldEnd;
+    }
+
+    public String text() {
+        String value = source.subSequence(fieldStart, fieldEnd).toString();
+        return escapedQuotes ? value.replace("\"\"", "\"") : value;
+    }
+
+    public BigDecimal decimal() {
+        return DecimalCodec.parse(source, fieldStart, fieldEnd);
+    }
+
+    public LocalDate date() {
+        return DateCodec.parse(source, fieldStart, fieldEnd);
+    }
+
+    public String nextText() {
+        requireNext();
+        return text();
+    }
+
+    public BigDecimal nextDecimal() {
+        requireNext();
+        return decimal();
+    }
+
+    public LocalDate nextDate() {
+        requireNext();
+        return date();
+    }
+
+    private void requireNext() {
+        if (!next()) {
+            throw new IllegalArgumentException("Недостаточно полей в строке: " + source);
+        }
+    }
+
+    public static String escape(String value) {
+        if (value == null) {
+            return "null";
+        }
+        return needsQuotes(value) ? QUOTE + value.replace("\"", "\"\"") + QUOTE : value;
+    }
+
+    public static StringBuilder appendEscaped(String value, StringBuilder out) {
+        if (value == null) {
+            return out.append("null");
+        }
+        if (!needsQuotes(value)) {
+            return out.append(value);
+        }
+        out.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            } else if (c == '\n' || c == '\r') {
+                throw new IllegalArgumentException("Значение содержит перевод строки: " + value);
+            }
+            out.append(c);
+        }
+        return out.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
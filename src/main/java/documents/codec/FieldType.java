@@ -0,0 +1,79 @@
+package documents.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public final class FieldType<V> {
+
+    public static final FieldType<Integer> INTEGER = new FieldType<>(Kind.INTEGER, Integer.class,
+            (text, start, end) -> Integer.parseInt(text, start, end, 10),
+            (value, out) -> out.append(value.intValue()), (value, out) -> out.append(value.intValue()));
+    public static final FieldType<String> TEXT = new FieldType<>(Kind.TEXT, String.class,
+            (text, start, end) -> text.subSequence(start, end).toString(), (value, out) -> out.append(value), (value, out) -> out.append(value));
+    public static final FieldType<LocalDate> DATE = new FieldType<>(Kind.DATE, LocalDate.class,
+            DateCodec::parse, DateCodec::appendTo, DateCodec::appendTo);
+    public static final FieldType<BigDecimal> DECIMAL = new FieldType<>(Kind.DECIMAL, BigDecimal.class,
+            DecimalCodec::parse, (value, out) -> out.append(value), FieldType::appendPlain);
+
+    private final Kind kind;
+    private final Class<V> javaType;
+    private final ValueParser<V> parser;
+    private final ValueAppender<V> formatter;
+    private final ValueAppender<V> plainFormatter;
+
+    private FieldType(Kind kind, Class<V> javaType, ValueParser<V> parser,
+                      ValueAppender<V> formatter, ValueAppender<V> plainFormatter) {
+        this.kind = kind;
+        this.javaType = javaType;
+        this.parser = parser;
+        this.formatter = formatter;
+        this.plainFormatter = plainFormatter;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public V cast(Object value) {
+        return javaType.cast(value);
+    }
+
+    public V parse(CharSequence text, int start, int end) {
+        return parser.parse(text, start, end);
+    }
+
+    public StringBuilder appendTo(V value, StringBuilder out) {
+        if (value == null) {
+            return out.append("null");
+        }
+        formatter.append(value, out);
+        return out;
+    }
+
+    public StringBuilder appendPlainTo(V value, StringBuilder out) {
+        if (value == null) {
+            return out.append("null");
+        }
+        plainFormatter.append(value, out);
+        return out;
+    }
+
+    private static void appendPlain(BigDecimal value, StringBuilder out) {
+        boolean exponential = value.scale() < 0 || value.precision() - value.scale() - 1 < -6;
+        out.append(exponential ? value.toPlainString() : value.toString());
+    }
+
+    public enum Kind {
+        INTEGER, TEXT, DATE, DECIMAL
+    }
+
+    @FunctionalInterface
+    public interface ValueParser<V> {
+        V parse(CharSequence text, int start, int end);
+    }
+
+    @FunctionalInterface
+    public interface ValueAppender<V> {
+        void append(V value, StringBuilder out);
+    }
+}
@@ -0,0 +1,155 @@
+package documents.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** Однопроходный разбор блока {@code "Метка: значение"} без подстрок и промежуточной карты. */
+public final class KeyValueBlockScanner<B, T> {
+
+    private static final String SEPARATOR = ": ";
+
+    private final Supplier<B> builderFactory;
+    private final Function<B, T> finisher;
+    private final String[] labels;
+    private final String[] encodedLabels;
+    private final List<ValueSetter<B>> setters;
+    private final long requiredMask;
+
+    private KeyValueBlockScanner(Supplier<B> builderFactory, Function<B, T> finisher,
+                                 List<String> labels, List<ValueSetter<B>> setters, long requiredMask) {
+        this.builderFactory = builderFactory;
+        this.finisher = finisher;
+        this.labels = labels.toArray(new String[0]);
+        this.encodedLabels = labels.stream().map(Utf8Bytes::encode).toArray(String[]::new);
+        this.setters = List.copyOf(setters);
+        this.requiredMask = requiredMask;
+    }
+
+    public static <B, T> Builder<B, T> builder(Supplier<B> builderFactory, Function<B, T> finisher) {
+        return new Builder<>(builderFactory, finisher);
+    }
+
+    public T parse(CharSequence block) {
+        B target = builderFactory.get();
+        String[] table = block instanceof Utf8Bytes ? encodedLabels : labels;
+        long seen = 0;
+        int expected = 0;
+        int length = block.length();
+        int lineStart = 0;
+
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && block.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int separator = indexOfSeparator(block, lineStart, lineEnd);
+            int keyStart = skipWhitespace(block, lineStart, separator);
+            int keyEnd = trimWhitespace(block, keyStart, separator);
+            int field = findField(table, block, keyStart, keyEnd, expected);
+            if (field >= 0) {
+                if ((seen & 1L << field) != 0) {
+                    throw new IllegalArgumentException("Повторяющееся поле: " + labels[field]);
+                }
+                seen |= 1L << field;
+                int valueStart = separator < lineEnd ? skipWhitespace(block, separator + SEPARATOR.length(), lineEnd) : lineEnd;
+                int valueEnd = trimWhitespace(block, valueStart, lineEnd);
+                setters.get(field).set(target, block, valueStart, valueEnd);
+                expected = field + 1;
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        long missing = requiredMask & ~seen;
+        if (missing != 0) {
+            throw new IllegalArgumentException("Отсутствует поле: " + labels[Long.numberOfTrailingZeros(missing)]);
+        }
+        return finisher.apply(target);
+    }
+
+    private static int findField(String[] table, CharSequence block, int keyStart, int keyEnd, int expected) {
+        if (expected < table.length && matches(table[expected], block, keyStart, keyEnd)) {
+            return expected;
+        }
+        for (int i = 0; i < table.length; i++) {
+            if (i != expected && matches(table[i], block, keyStart, keyEnd)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(String label, CharSequence block, int start, int end) {
+        int length = label.length();
+        if (end - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (block.charAt(start + i) != label.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfSeparator(CharSequence block, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            if (block.charAt(i) == ':' && block.charAt(i + 1) == ' ') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int skipWhitespace(CharSequence block, int start, int end) {
+        while (start < end && block.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimWhitespace(CharSequence block, int start, int end) {
+        while (end > start && block.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    @FunctionalInterface
+    public interface ValueSetter<B> {
+        void set(B builder, CharSequence text, int start, int end);
+    }
+
+    public static final class Builder<B, T> {
+
+        private final Supplier<B> builderFactory;
+        private final Function<B, T> finisher;
+        private final List<String> labels = new ArrayList<>();
+        private final List<ValueSetter<B>> setters = new ArrayList<>();
+        private long requiredMask;
+
+        private Builder(Supplier<B> builderFactory, Function<B, T> finisher) {
+            this.builderFactory = builderFactory;
+            this.finisher = finisher;
+        }
+
+        public Builder<B, T> field(String label, ValueSetter<B> setter) {
+            if (labels.size() == Long.SIZE) {
+                throw new IllegalStateException("Слишком много полей: " + label);
+            }
+            labels.add(label);
+            setters.add(setter);
+            return this;
+        }
+
+        public Builder<B, T> required(String label, ValueSetter<B> setter) {
+            requiredMask |= 1L << labels.size();
+            return field(label, setter);
+        }
+
+        public KeyValueBlockScanner<B, T> build() {
+            return new KeyValueBlockScanner<>(builderFactory, finisher, labels, setters, requiredMask);
+        }
+    }
+}
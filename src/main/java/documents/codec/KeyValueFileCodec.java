@@ -0,0 +1,46 @@
+package documents.codec;
+
+import documents.model.DisplayableDocument;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+
+/** При чтении поля берутся по порядку строк, подписи не сверяются. */
+public final class KeyValueFileCodec<T extends DisplayableDocument, B> {
+
+    private static final String SEPARATOR = ": ";
+
+    private final DocumentSchema<T, B> schema;
+    private final FieldDescriptor<T, B, ?>[] fields;
+
+    KeyValueFileCodec(DocumentSchema<T, B> schema) {
+        this.schema = schema;
+        this.fields = schema.fieldArray(false);
+    }
+
+    public void write(T document, Appendable out) throws IOException {
+        TextOutput output = TextOutput.get();
+        StringBuilder text = output.begin();
+        for (FieldDescriptor<T, B, ?> field : fields) {
+            field.appendPlainTo(document, text.append(field.getFileLabel()).append(SEPARATOR)).append('\n');
+        }
+        output.copyTo(out);
+    }
+
+    public T read(BufferedReader reader) throws IOException {
+        B builder = schema.newBuilder();
+        for (FieldDescriptor<T, B, ?> field : fields) {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new EOFException("Файл обрывается перед полем: " + field.getFileLabel());
+            }
+            int separator = line.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IOException("Некорректная строка файла: " + line);
+            }
+            field.parse(builder, line, separator + SEPARATOR.length(), line.length());
+        }
+        return schema.build(builder);
+    }
+}
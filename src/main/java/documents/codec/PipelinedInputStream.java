@@ -0,0 +1,125 @@
+package documents.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/** Читает исходный поток заранее, в фоновом потоке. */
+public class PipelinedInputStream extends InputStream {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final InputStream source;
+    private final int chunkSize;
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(QUEUE_CAPACITY + 1);
+    private final Thread worker;
+    private volatile IOException failure;
+    private ByteBuffer current = ByteBuffer.allocate(0);
+    private boolean finished;
+    private boolean closed;
+
+    public PipelinedInputStream(InputStream source, int chunkSize) {
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.worker = new Thread(this::fill, "documents-compression-reader");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return current.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int count = Math.min(length, current.remaining());
+        current.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        worker.interrupt();
+        source.close();
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (closed) {
+            throw new IOException("Поток закрыт");
+        }
+        while (!current.hasRemaining()) {
+            if (finished) {
+                return false;
+            }
+            if (current.capacity() == chunkSize) {
+                free.offer(current.array());
+            }
+            try {
+                current = filled.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Прервано ожидание распакованных данных");
+            }
+            if (current == END) {
+                finished = true;
+                IOException e = failure;
+                if (e != null) {
+                    throw new IOException("Ошибка при чтении сжатых данных", e);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void fill() {
+        try {
+            while (true) {
+                byte[] chunk = free.poll();
+                if (chunk == null) {
+                    chunk = new byte[chunkSize];
+                }
+                int read = source.readNBytes(chunk, 0, chunkSize);
+                if (read > 0) {
+                    filled.put(ByteBuffer.wrap(chunk, 0, read));
+                }
+                if (read < chunkSize) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            filled.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
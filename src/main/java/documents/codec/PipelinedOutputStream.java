@@ -0,0 +1,153 @@
+package documents.codec;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/** Пишет в целевой поток из фонового потока через ограниченную очередь. */
+public class PipelinedOutputStream extends OutputStream {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    private static final ByteBuffer FLUSH = ByteBuffer.allocate(0);
+
+    private final OutputStream target;
+    private final int chunkSize;
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(QUEUE_CAPACITY + 1);
+    private final Semaphore flushed = new Semaphore(0);
+    private final Thread worker;
+    private volatile IOException failure;
+    private byte[] chunk;
+    private int position;
+    private boolean closed;
+
+    public PipelinedOutputStream(OutputStream target, int chunkSize) {
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.chunk = new byte[chunkSize];
+        this.worker = new Thread(this::drain, "documents-compression-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == chunk.length) {
+            handOff();
+        }
+        chunk[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (position == chunk.length) {
+                handOff();
+            }
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(bytes, offset, chunk, position, count);
+            position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (position > 0) {
+            handOff();
+        }
+        try {
+            filled.put(FLUSH);
+            flushed.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Прервано ожидание записи данных");
+        }
+        checkFailure();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (position > 0) {
+                handOff();
+            }
+            filled.put(END);
+            worker.join();
+        } catch (InterruptedException e) {
+            worker.interrupt();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Прервано ожидание завершения сжатия");
+        } finally {
+            target.close();
+        }
+        checkFailure();
+    }
+
+    private void handOff() throws IOException {
+        checkFailure();
+        try {
+            filled.put(ByteBuffer.wrap(chunk, 0, position));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Прервана передача данных на сжатие");
+        }
+        byte[] reused = free.poll();
+        chunk = reused != null ? reused : new byte[chunkSize];
+        position = 0;
+    }
+
+    private void drain() {
+        try {
+            ByteBuffer buffer;
+            while ((buffer = filled.take()) != END) {
+                if (buffer == FLUSH) {
+                    flushTarget();
+                    flushed.release();
+                    continue;
+                }
+                if (failure == null) {
+                    try {
+                        target.write(buffer.array(), buffer.arrayOffset(), buffer.remaining());
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                free.offer(buffer.array());
+            }
+            flushTarget();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushTarget() {
+        if (failure == null) {
+            try {
+                target.flush();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw new IOException("Ошибка при записи сжатых данных", e);
+        }
+    }
+}
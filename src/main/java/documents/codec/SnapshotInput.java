@@ -0,0 +1,148 @@
+package documents.codec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SnapshotInput implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final List<String> dictionary = new ArrayList<>();
+    private long previousEpochDay;
+    private boolean endOfStream;
+
+    public SnapshotInput(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    public boolean hasMore() throws IOException {
+        return buffer.hasRemaining() || fill();
+    }
+
+    public int readByte() throws IOException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining() && !fill()) {
+                throw new EOFException("Снимок обрывается внутри строки");
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return bytes;
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Некорректное число переменной длины в снимке");
+    }
+
+    public long readSignedVarLong() throws IOException {
+        return unzigzag(readVarLong());
+    }
+
+    public Integer readNullableInt() throws IOException {
+        long raw = readVarLong();
+        return raw == SnapshotOutput.NULL ? null : Math.toIntExact(unzigzag(raw - 1));
+    }
+
+    public String readString() throws IOException {
+        long raw = readVarLong();
+        if (raw == SnapshotOutput.NULL) {
+            return null;
+        }
+        return new String(readBytes(Math.toIntExact(raw - 1)), StandardCharsets.UTF_8);
+    }
+
+    public String readDictionaryString() throws IOException {
+        long raw = readVarLong();
+        if (raw == SnapshotOutput.NULL) {
+            return null;
+        }
+        if (raw == SnapshotOutput.NEW_ENTRY) {
+            String value = readString();
+            dictionary.add(value);
+            return value;
+        }
+        int index = Math.toIntExact(raw - 2);
+        if (index >= dictionary.size()) {
+            throw new IOException("Ссылка на отсутствующую строку словаря: " + index);
+        }
+        return dictionary.get(index);
+    }
+
+    public LocalDate readDate() throws IOException {
+        long raw = readVarLong();
+        if (raw == SnapshotOutput.NULL) {
+            return null;
+        }
+        previousEpochDay += unzigzag(raw - 1);
+        return LocalDate.ofEpochDay(previousEpochDay);
+    }
+
+    public BigDecimal readDecimal() throws IOException {
+        long raw = readVarLong();
+        if (raw == SnapshotOutput.NULL) {
+            return null;
+        }
+        if (raw == SnapshotOutput.BIG_DECIMAL_TEXT) {
+            return new BigDecimal(readString());
+        }
+        int scale = Math.toIntExact(unzigzag(raw - 2));
+        return BigDecimal.valueOf(readSignedVarLong(), scale);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void require(int bytes) throws IOException {
+        while (buffer.remaining() < bytes) {
+            if (!fill()) {
+                throw new EOFException("Неожиданный конец снимка");
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+        buffer.compact();
+        int read = channel.read(buffer);
+        buffer.flip();
+        if (read < 0) {
+            endOfStream = true;
+        }
+        return read > 0;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
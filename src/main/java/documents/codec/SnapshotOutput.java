@@ -0,0 +1,141 @@
+package documents.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SnapshotOutput implements Closeable {
+
+    static final int NULL = 0;
+    static final int NEW_ENTRY = 1;
+    static final int BIG_DECIMAL_TEXT = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private long previousEpochDay;
+
+    public SnapshotOutput(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.capacity()) {
+            flush();
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+            return;
+        }
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        ensure(MAX_VARINT_BYTES);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeNullableInt(Integer value) throws IOException {
+        writeVarLong(value == null ? NULL : ((long) value << 1 ^ (long) value >> 63) + 1);
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    public void writeDictionaryString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarLong(index + 2L);
+            return;
+        }
+        dictionary.put(value, dictionary.size());
+        writeVarLong(NEW_ENTRY);
+        writeString(value);
+    }
+
+    public void writeDate(LocalDate value) throws IOException {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        long epochDay = value.toEpochDay();
+        long delta = epochDay - previousEpochDay;
+        previousEpochDay = epochDay;
+        writeVarLong(((delta << 1) ^ (delta >> 63)) + 1);
+    }
+
+    public void writeDecimal(BigDecimal value) throws IOException {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE) {
+            writeVarLong(BIG_DECIMAL_TEXT);
+            writeString(value.toString());
+            return;
+        }
+        long scale = value.scale();
+        writeVarLong(((scale << 1) ^ (scale >> 63)) + 2);
+        writeSignedVarLong(unscaled.longValue());
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package documents.codec;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+final class TextOutput {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    private static final ThreadLocal<TextOutput> LOCAL = ThreadLocal.withInitial(TextOutput::new);
+
+    private StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+    private char[] chars = new char[INITIAL_CAPACITY];
+
+    static TextOutput get() {
+        return LOCAL.get();
+    }
+
+    StringBuilder begin() {
+        if (text.capacity() > MAX_RETAINED_CAPACITY) {
+            text = new StringBuilder(INITIAL_CAPACITY);
+        }
+        text.setLength(0);
+        return text;
+    }
+
+    void copyTo(Appendable out) throws IOException {
+        int length = text.length();
+        if (out instanceof StringBuilder builder) {
+            builder.append(text);
+        } else if (out instanceof Writer writer) {
+            writer.write(toChars(length), 0, length);
+        } else if (out instanceof CharBuffer buffer) {
+            buffer.put(toChars(length), 0, length);
+        } else {
+            out.append(text);
+        }
+    }
+
+    private char[] toChars(int length) {
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        text.getChars(0, length, chars, 0);
+        return chars;
+    }
+}
@@ -0,0 +1,60 @@
+package documents.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Текст в UTF-8 без декодирования: {@link #charAt} возвращает байт. Объект переиспользуется, сохранять его нельзя.
+ */
+public final class Utf8Bytes implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int start;
+    private int end;
+
+    public Utf8Bytes reset(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    public static String encode(String text) {
+        return new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new Utf8Bytes().reset(buffer, start + from, start + to);
+    }
+
+    public boolean isBlank() {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) > ' ' || buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        int length = end - start;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] copy = new byte[length];
+        buffer.get(start, copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+}
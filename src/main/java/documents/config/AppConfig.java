@@ -1,5 +1,8 @@
 package documents.config;
 
+import documents.codec.DateCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,4 +14,9 @@ public class AppConfig {
     public SpringFXMLLoader springFXMLLoader(ApplicationContext applicationContext) {
         return new SpringFXMLLoader(applicationContext);
     }
+
+    @Autowired
+    public void configureDateCache(@Value("${" + DateCodec.CACHE_SIZE_PROPERTY + ":" + DateCodec.DEFAULT_CACHE_SIZE + "}") int size) {
+        DateCodec.setCacheSize(size);
+    }
 }
@@ -0,0 +1,63 @@
+package documents.controller;
+
+import documents.exception.ServiceOperationException;
+import documents.model.ImportReport;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Окно с итогами импорта из файла, общее для форм счёта, платежа и платёжки.
+ */
+final class ImportReportAlert {
+
+    private static final int MAX_REPORTED_LINES = 20;
+
+    private ImportReportAlert() {
+    }
+
+    static void showWhenDone(ImportTask task) {
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.run();
+            } catch (ServiceOperationException e) {
+                throw new CompletionException(e);
+            }
+        }).whenComplete((report, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                cause.printStackTrace();
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Ошибка загрузки");
+                alert.setHeaderText(null);
+                alert.setContentText("Не удалось загрузить файл: " + cause.getMessage());
+                alert.showAndWait();
+                return;
+            }
+            show(report);
+        }));
+    }
+
+    static void show(ImportReport report) {
+        String content = report.getSummary();
+        if (report.getFailedCount() > 0) {
+            content += "\nСтроки с ошибками: " + report.getFailedLineNumbers().stream()
+                    .limit(MAX_REPORTED_LINES)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+        }
+        Alert alert = new Alert(report.getFailedCount() > 0 ? Alert.AlertType.WARNING : Alert.AlertType.INFORMATION);
+        alert.setTitle("Импорт завершён");
+        alert.setHeaderText(null);
+        alert.setContentText(content);
+        alert.showAndWait();
+    }
+
+    @FunctionalInterface
+    interface ImportTask {
+        ImportReport run() throws ServiceOperationException;
+    }
+}
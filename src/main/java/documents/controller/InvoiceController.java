@@ -1,8 +1,8 @@
 package documents.controller;
 
+import documents.exception.ServiceOperationException;
 import documents.listener.DocumentCreationListener;
 import documents.listener.DocumentCreationListenerAware;
-import documents.service.InvoiceProcessingService;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -12,16 +12,22 @@ import javafx.scene.control.TextField;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import documents.model.Invoice;
+import documents.service.DocumentExportService;
+import documents.service.DocumentImportService;
 import documents.service.InvoiceService;
+import documents.validation.DocumentValidators;
+import documents.validation.Violation;
 import net.rgielen.fxweaver.core.FxmlView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.PrintWriter;
 import java.math.BigDecimal;
-import java.util.Scanner;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @Scope("prototype")
@@ -39,8 +45,11 @@ public class InvoiceController implements DocumentCreationListenerAware {
 
     @Autowired
     private InvoiceService invoiceService;
+
+    @Autowired
+    private DocumentImportService documentImportService;
     @Autowired
-    private InvoiceProcessingService invoiceProcessingService;
+    private DocumentExportService documentExportService;
 
     private final FileChooser fileChooser = new FileChooser();
 
@@ -51,8 +60,11 @@ public class InvoiceController implements DocumentCreationListenerAware {
 
     @FXML
     private void createInvoice(ActionEvent event) {
-        if (!isValidInput()) {
-            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения.");
+        List<Violation> violations = validateInput();
+        if (!violations.isEmpty()) {
+            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения:\n" + violations.stream()
+                    .map(Violation::toString)
+                    .collect(Collectors.joining("\n")));
             return;
         }
 
@@ -76,19 +88,17 @@ public class InvoiceController implements DocumentCreationListenerAware {
         }
     }
 
-    private boolean isValidInput() {
-        String namePattern = "[a-zA-Zа-яА-Я ]*";
-        String numberPattern = "\\d+(\\.\\d+)?";
-
-        return numberField.getText().matches("\\d+") &&
-                datePicker.getValue() != null &&
-                userField.getText().matches(namePattern) &&
-                !amountField.getText().isEmpty() &&
-                amountField.getText().matches(numberPattern) &&
-                currencyField.getText().matches("[a-zA-Zа-яА-Я]*") &&
-                currencyRateField.getText().matches(numberPattern) &&
-                productField.getText().matches(namePattern) &&
-                quantityField.getText().matches(numberPattern);
+    private List<Violation> validateInput() {
+        Map<String, Object> input = new HashMap<>();
+        input.put(DocumentValidators.NUMBER, numberField.getText());
+        input.put(DocumentValidators.DATE, datePicker.getValue());
+        input.put(DocumentValidators.USER, userField.getText());
+        input.put(DocumentValidators.AMOUNT, amountField.getText());
+        input.put(DocumentValidators.CURRENCY, currencyField.getText());
+        input.put(DocumentValidators.CURRENCY_RATE, currencyRateField.getText());
+        input.put(DocumentValidators.PRODUCT, productField.getText());
+        input.put(DocumentValidators.QUANTITY, quantityField.getText());
+        return DocumentValidators.INVOICE.validateInput(input);
     }
 
     private void notifyDocumentCreation(Invoice invoice) {
@@ -109,11 +119,9 @@ public class InvoiceController implements DocumentCreationListenerAware {
     private void saveInvoicesToFile() {
         File file = fileChooser.showSaveDialog(null);
         if (file != null) {
-            try (PrintWriter writer = new PrintWriter(file)) {
-                for (Invoice invoice : invoiceService.getAllInvoices()) {
-                    writer.println(invoiceProcessingService.formatInvoiceForFile(invoice));
-                }
-            } catch (Exception e) {
+            try {
+                documentExportService.exportInvoices(file.toPath());
+            } catch (ServiceOperationException e) {
                 showAlertWithError("Ошибка сохранения", "Не удалось сохранить файл: " + e.getMessage());
             }
         }
@@ -123,20 +131,13 @@ public class InvoiceController implements DocumentCreationListenerAware {
     private void loadInvoicesFromFile() {
         File file = fileChooser.showOpenDialog(null);
         if (file != null) {
-            try (Scanner scanner = new Scanner(file)) {
-                while (scanner.hasNextLine()) {
-                    String line = scanner.nextLine();
-                    try {
-                        Invoice invoice = invoiceProcessingService.parseInvoiceFromLine(line);
-                        invoiceService.createOrUpdateInvoice(invoice);
-                        notifyDocumentCreation(invoice);
-                    } catch (IllegalArgumentException e) {
-                        showAlertWithError("Ошибка парсинга", e.getMessage());
-                    }
-                }
-            } catch (Exception e) {
-                showAlertWithError("Ошибка загрузки", "Не удалось загрузить файл: " + e.getMessage());
-            }
+            ImportReportAlert.showWhenDone(() -> documentImportService.importInvoices(file.toPath(), this::notifyDocumentsCreation));
+        }
+    }
+
+    private void notifyDocumentsCreation(List<Invoice> invoices) {
+        if (this.creationListener != null) {
+            this.creationListener.onDocumentsCreated(invoices);
         }
     }
 
@@ -1,12 +1,17 @@
 package documents.controller;
 
+import documents.codec.CompressionCodec;
+import documents.exception.ServiceOperationException;
 import documents.listener.DocumentCreationListener;
 import documents.listener.DocumentCreationListenerAware;
-import documents.service.DocumentParserService;
-import documents.service.DocumentProcessingService;
-import documents.service.InvoiceService;
-import documents.service.PaymentOrderService;
-import documents.service.PaymentService;
+import documents.service.DocumentArchiveService;
+import documents.service.DocumentDetailsService;
+import documents.service.DocumentImportService;
+import documents.service.DocumentPager;
+import documents.service.DocumentQueryService;
+import documents.service.DocumentSnapshotService;
+import documents.service.DocumentSource;
+import documents.service.FullExportService;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -16,54 +21,66 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import documents.model.DisplayableDocument;
-import documents.model.Invoice;
-import documents.model.Payment;
-import documents.model.PaymentOrder;
+import documents.model.DocumentFilter;
+import documents.model.DocumentKey;
+import documents.model.DocumentRow;
 import net.rgielen.fxweaver.core.FxmlView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Component
 @Scope("prototype")
 @FxmlView("view/mainWindow.fxml")
 public class MainWindowController implements DocumentCreationListener {
 
+    private static final int PAGE_SIZE = 200;
+    private static final int PREFETCH_ROWS = 100;
 
     @Autowired
     private ConfigurableApplicationContext context;
     private DisplayableDocument currentDocument;
 
     @Autowired
-    private InvoiceService invoiceService;
+    private DocumentQueryService documentQueryService;
     @Autowired
-    private PaymentOrderService paymentOrderService;
-    @Autowired
-    private PaymentService paymentService;
+    private DocumentDetailsService documentDetailsService;
 
     @Autowired
-    private DocumentProcessingService documentProcessingService;
-    private DocumentDetailsController documentDetailsController;
+    private DocumentImportService documentImportService;
+    @Autowired
+    private DocumentArchiveService documentArchiveService;
+    @Autowired
+    private DocumentSnapshotService documentSnapshotService;
     @Autowired
-    private DocumentParserService documentParserService;
+    private FullExportService fullExportService;
+    private DocumentDetailsController documentDetailsController;
 
     @Autowired
     private DocumentListController documentListController;
 
     @FXML
     private ListView<DisplayableDocument> documentListView;
+    private DocumentPager documentPager;
+    private boolean pageLoading;
+    private final List<DocumentRow> pendingSkips = new ArrayList<>();
+    private boolean exportRunning;
 
     @Autowired
     public MainWindowController(ConfigurableApplicationContext context) {
@@ -88,31 +105,73 @@ public class MainWindowController implements DocumentCreationListener {
 
     @Override
     public void onDocumentCreated(DisplayableDocument document) {
+        documentDetailsService.remember(document);
+        DocumentRow row = DocumentRow.of(document);
         Platform.runLater(() -> {
-            documentListView.getItems().add(document);
-            documentListView.getSelectionModel().select(document);
+            skipInPager(List.of(row));
+            documentListView.getItems().add(row);
+            documentListView.getSelectionModel().select(row);
         });
     }
 
-    private void loadDocuments() {
-        loadInvoices();
-        loadPaymentOrders();
-        loadPayments();
+    @Override
+    public void onDocumentsCreated(List<? extends DisplayableDocument> documents) {
+        List<DocumentRow> rows = documents.stream().map(DocumentRow::of).toList();
+        Platform.runLater(() -> {
+            skipInPager(rows);
+            documentListView.getItems().addAll(rows);
+        });
+    }
+
+    private void skipInPager(List<DocumentRow> rows) {
+        if (pageLoading) {
+            pendingSkips.addAll(rows);
+        } else {
+            rows.forEach(documentPager::skip);
+        }
     }
 
-    private void loadInvoices() {
-        List<DisplayableDocument> invoices = new LinkedList<>(invoiceService.getAllInvoices());
-        documentListView.getItems().addAll(invoices);
+    private List<DocumentRow> applyPendingSkips(List<DocumentRow> page) {
+        if (pendingSkips.isEmpty()) {
+            return page;
+        }
+        Set<DocumentKey> shown = pendingSkips.stream().map(DocumentRow::getKey).collect(Collectors.toSet());
+        List<DocumentRow> fresh = page.stream().filter(row -> !shown.remove(row.getKey())).toList();
+        pendingSkips.stream().filter(row -> shown.contains(row.getKey())).forEach(documentPager::skip);
+        pendingSkips.clear();
+        return fresh;
     }
 
-    private void loadPaymentOrders() {
-        List<DisplayableDocument> paymentOrders = new LinkedList<>(paymentOrderService.getAllPaymentOrders());
-        documentListView.getItems().addAll(paymentOrders);
+    private void loadDocuments() {
+        documentPager = new DocumentPager((after, limit) ->
+                documentQueryService.findPageAfter(DocumentFilter.ALL, after, limit), DocumentRow.LIST_ORDER, PAGE_SIZE);
+        loadNextPage();
     }
 
-    private void loadPayments() {
-        List<DisplayableDocument> payments = new LinkedList<>(paymentService.getAllPayments());
-        documentListView.getItems().addAll(payments);
+    private void loadNextPage() {
+        if (pageLoading || documentPager.isExhausted()) {
+            return;
+        }
+        pageLoading = true;
+        DocumentPager pager = documentPager;
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return pager.nextPage();
+            } catch (ServiceOperationException e) {
+                throw new CompletionException(e);
+            }
+        }).whenComplete((page, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                // Подгрузка останавливается, чтобы не повторять ошибку при каждой прокрутке.
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                cause.printStackTrace();
+                showAlert("Ошибка загрузки", "Не удалось загрузить список документов: " + cause.getMessage(), Alert.AlertType.ERROR);
+                pendingSkips.clear();
+                return;
+            }
+            pageLoading = false;
+            documentListView.getItems().addAll(applyPendingSkips(page));
+        }));
     }
 
     private void displayDocumentDetails(DisplayableDocument document) {
@@ -122,6 +181,7 @@ public class MainWindowController implements DocumentCreationListener {
     }
 
     private void setupDocumentListView() {
+        documentListView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         documentListView.setCellFactory(param -> new ListCell<DisplayableDocument>() {
             @Override
             protected void updateItem(DisplayableDocument document, boolean empty) {
@@ -130,6 +190,9 @@ public class MainWindowController implements DocumentCreationListener {
                     setText(null);
                     setGraphic(null);
                 } else {
+                    if (getIndex() >= getListView().getItems().size() - PREFETCH_ROWS) {
+                        loadNextPage();
+                    }
                     HBox container = new HBox(10);
                     CheckBox checkBox = new CheckBox();
                     Label label = new Label(document.getDisplayText());
@@ -146,8 +209,6 @@ public class MainWindowController implements DocumentCreationListener {
                         displayDocumentDetails(newValue);
                     }
                 });
-
-        loadDocuments();
     }
 
     @FXML
@@ -156,23 +217,32 @@ public class MainWindowController implements DocumentCreationListener {
     }
 
     private void saveDocumentToFile(File file) {
-        if (currentDocument == null) {
-            showAlert("Сохранение документа", "Не выбран документ для сохранения", Alert.AlertType.WARNING);
+        List<DisplayableDocument> selected = new ArrayList<>(documentListView.getSelectionModel().getSelectedItems());
+        if (selected.isEmpty() && documentListView.getItems().isEmpty()) {
+            showAlert("Сохранение документа", "Нет документов для сохранения", Alert.AlertType.WARNING);
             return;
         }
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            if (currentDocument instanceof Invoice invoice) {
-                fileWriter.write(documentProcessingService.convertInvoiceToString(invoice));
-            } else if (currentDocument instanceof Payment payment) {
-                fileWriter.write(documentProcessingService.convertPaymentToString(payment));
-            } else if (currentDocument instanceof PaymentOrder paymentOrder) {
-                fileWriter.write(documentProcessingService.convertPaymentOrderToString(paymentOrder));
+        Path path = file.toPath();
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                DocumentSource documents = selected.isEmpty()
+                        ? documentDetailsService::forEachDocument
+                        : DocumentSource.of(documentDetailsService.loadAll(selected));
+                return DocumentSnapshotService.isSnapshotFile(path)
+                        ? documentSnapshotService.writeSnapshot(path, documents)
+                        : documentArchiveService.writeArchive(path, documents);
+            } catch (ServiceOperationException e) {
+                throw new CompletionException(e);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-            showAlert("Ошибка сохранения", "Не удалось сохранить документ: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+        }).whenComplete((count, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                cause.printStackTrace();
+                Platform.runLater(() -> showAlert("Ошибка сохранения",
+                        "Не удалось сохранить документ: " + cause.getMessage(), Alert.AlertType.ERROR));
+            }
+        });
     }
 
     private void showAlert(String title, String content, Alert.AlertType type) {
@@ -194,7 +264,8 @@ public class MainWindowController implements DocumentCreationListener {
     private File chooseFileForSave() {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Сохранить документ");
-        fileChooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+        fileChooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+                new FileChooser.ExtensionFilter("Document Snapshots", "*" + DocumentSnapshotService.FILE_EXTENSION));
         return fileChooser.showSaveDialog(null);
     }
 
@@ -206,69 +277,79 @@ public class MainWindowController implements DocumentCreationListener {
         }
     }
 
+    @FXML
+    private void handleExportAllAction(ActionEvent event) {
+        DirectoryChooser directoryChooser = new DirectoryChooser();
+        directoryChooser.setTitle("Каталог для выгрузки всех документов");
+        File directory = directoryChooser.showDialog(null);
+        if (directory == null) {
+            return;
+        }
+        if (exportRunning) {
+            showAlert("Выгрузка документов", "Предыдущая выгрузка ещё не завершена", Alert.AlertType.WARNING);
+            return;
+        }
+        exportRunning = true;
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return fullExportService.exportAll(directory.toPath(), CompressionCodec.NONE);
+            } catch (ServiceOperationException e) {
+                throw new CompletionException(e);
+            }
+        }).whenComplete((report, error) -> Platform.runLater(() -> {
+            exportRunning = false;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                cause.printStackTrace();
+                showAlert("Ошибка выгрузки", "Не удалось выгрузить документы: " + cause.getMessage(), Alert.AlertType.ERROR);
+                return;
+            }
+            showAlert("Выгрузка документов", report.getSummary(), Alert.AlertType.INFORMATION);
+        }));
+    }
+
     private File chooseFileForLoad() {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Загрузить документ");
-        fileChooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+        fileChooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+                new FileChooser.ExtensionFilter("Document Snapshots", "*" + DocumentSnapshotService.FILE_EXTENSION));
         return fileChooser.showOpenDialog(null);
     }
 
     private void loadDocumentFromFile(File file) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            StringBuilder blockBuilder = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                blockBuilder.append(line).append("\n");
+        Path path = file.toPath();
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return documentImportService.restoreDocuments(consumer -> DocumentSnapshotService.isSnapshotFile(path)
+                        ? documentSnapshotService.readSnapshot(path, consumer)
+                        : documentArchiveService.readArchive(path, consumer), this::displayDocuments);
+            } catch (ServiceOperationException e) {
+                throw new CompletionException(e);
             }
-            String block = blockBuilder.toString();
-            processDocumentBlock(block);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        }).whenComplete((count, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                cause.printStackTrace();
+                Platform.runLater(() -> showAlert("Ошибка загрузки",
+                        "Не удалось загрузить документы: " + cause.getMessage(), Alert.AlertType.ERROR));
+            }
+        });
     }
 
-    private void processDocumentBlock(String block) {
-        String documentType = extractDocumentType(block);
-        DisplayableDocument document = parseDocumentByType(block, documentType);
-        if (document != null) {
-            saveAndDisplayDocument(document);
+    private void displayDocuments(List<? extends DisplayableDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
         }
-    }
-
-    private String extractDocumentType(String block) {
-        String[] lines = block.split("\n");
-        return (lines.length > 0) ? lines[0] : "";
-    }
-
-    private DisplayableDocument parseDocumentByType(String block, String documentType) {
-        String dataBlock = block.substring(documentType.length()).trim();
-        return switch (documentType) {
-            case "Накладная" -> documentParserService.parseInvoice(dataBlock);
-            case "Платёжка" -> documentParserService.parsePayment(dataBlock);
-            case "Заявка на оплату" -> documentParserService.parsePaymentOrder(dataBlock);
-            default -> null;
-        };
-    }
-
-    private void saveAndDisplayDocument(DisplayableDocument document) {
-        saveDocument(document);
         Platform.runLater(() -> {
-            documentListController.addDocument(document);
-            documentListView.getItems().add(document);
-            documentListView.getSelectionModel().select(document);
+            documents.forEach(documentListController::addDocument);
+            documents.forEach(documentDetailsService::remember);
+            List<DocumentRow> rows = documents.stream().map(DocumentRow::of).toList();
+            skipInPager(rows);
+            documentListView.getItems().addAll(rows);
+            documentListView.getSelectionModel().select(rows.get(rows.size() - 1));
         });
     }
 
-    private void saveDocument(DisplayableDocument document) {
-        if (document instanceof Invoice) {
-            invoiceService.saveInvoice((Invoice) document);
-        } else if (document instanceof Payment) {
-            paymentService.savePayment((Payment) document);
-        } else if (document instanceof PaymentOrder) {
-            paymentOrderService.savePaymentOrder((PaymentOrder) document);
-        }
-    }
-
     @FXML
     private void handleViewAction(ActionEvent event) {
         DisplayableDocument selectedDocument = documentListView.getSelectionModel().getSelectedItem();
@@ -1,5 +1,6 @@
 package documents.controller;
 
+import documents.exception.ServiceOperationException;
 import documents.listener.DocumentCreationListener;
 import documents.listener.DocumentCreationListenerAware;
 import javafx.event.ActionEvent;
@@ -11,18 +12,22 @@ import javafx.scene.control.TextField;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import documents.model.Payment;
+import documents.service.DocumentExportService;
+import documents.service.DocumentImportService;
 import documents.service.PaymentService;
-import documents.service.PaymentProcessingService;
+import documents.validation.DocumentValidators;
+import documents.validation.Violation;
 import net.rgielen.fxweaver.core.FxmlView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.PrintWriter;
 import java.math.BigDecimal;
-import java.util.Scanner;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @Scope("prototype")
@@ -50,7 +55,9 @@ public class PaymentController implements DocumentCreationListenerAware {
     private PaymentService paymentService;
 
     @Autowired
-    private PaymentProcessingService paymentProcessingService;
+    private DocumentImportService documentImportService;
+    @Autowired
+    private DocumentExportService documentExportService;
 
     private final FileChooser fileChooser = new FileChooser();
 
@@ -61,8 +68,11 @@ public class PaymentController implements DocumentCreationListenerAware {
 
     @FXML
     private void createPayment(ActionEvent event) {
-        if (!isValidInput()) {
-            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения.");
+        List<Violation> violations = validateInput();
+        if (!violations.isEmpty()) {
+            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения:\n" + violations.stream()
+                    .map(Violation::toString)
+                    .collect(Collectors.joining("\n")));
             return;
         }
 
@@ -83,14 +93,14 @@ public class PaymentController implements DocumentCreationListenerAware {
         }
     }
 
-    private boolean isValidInput() {
-        String namePattern = "[a-zA-Zа-яА-Я ]*";
-        return numberField.getText().matches("\\d+") &&
-                datePicker.getValue() != null &&
-                userField.getText().matches(namePattern) &&
-                employeeField.getText().matches(namePattern) &&
-                !amountField.getText().isEmpty() &&
-                amountField.getText().matches("\\d+(\\.\\d+)?");
+    private List<Violation> validateInput() {
+        Map<String, Object> input = new HashMap<>();
+        input.put(DocumentValidators.NUMBER, numberField.getText());
+        input.put(DocumentValidators.DATE, datePicker.getValue());
+        input.put(DocumentValidators.USER, userField.getText());
+        input.put(DocumentValidators.EMPLOYEE, employeeField.getText());
+        input.put(DocumentValidators.AMOUNT, amountField.getText());
+        return DocumentValidators.PAYMENT.validateInput(input);
     }
 
     private void notifyDocumentCreation(Payment payment) {
@@ -111,11 +121,9 @@ public class PaymentController implements DocumentCreationListenerAware {
     private void savePaymentsToFile() {
         File file = fileChooser.showSaveDialog(null);
         if (file != null) {
-            try (PrintWriter writer = new PrintWriter(file)) {
-                for (Payment payment : paymentService.getAllPayments()) {
-                    writer.println(paymentProcessingService.formatPaymentForFile(payment));
-                }
-            } catch (Exception e) {
+            try {
+                documentExportService.exportPayments(file.toPath());
+            } catch (ServiceOperationException e) {
                 showAlertWithError("Ошибка сохранения", "Не удалось сохранить файл: " + e.getMessage());
             }
         }
@@ -125,20 +133,13 @@ public class PaymentController implements DocumentCreationListenerAware {
     private void loadPaymentsFromFile() {
         File file = fileChooser.showOpenDialog(null);
         if (file != null) {
-            try (Scanner scanner = new Scanner(file)) {
-                while (scanner.hasNextLine()) {
-                    String line = scanner.nextLine();
-                    try {
-                        Payment payment = paymentProcessingService.parsePaymentFromLine(line);
-                        paymentService.createPayment(payment);
-                        notifyDocumentCreation(payment);
-                    } catch (IllegalArgumentException e) {
-                        showAlertWithError("Ошибка парсинга", e.getMessage());
-                    }
-                }
-            } catch (Exception e) {
-                showAlertWithError("Ошибка загрузки", "Не удалось загрузить файл: " + e.getMessage());
-            }
+            ImportReportAlert.showWhenDone(() -> documentImportService.importPayments(file.toPath(), this::notifyDocumentsCreation));
+        }
+    }
+
+    private void notifyDocumentsCreation(List<Payment> payments) {
+        if (this.creationListener != null) {
+            this.creationListener.onDocumentsCreated(payments);
         }
     }
 
@@ -1,8 +1,8 @@
 package documents.controller;
 
+import documents.exception.ServiceOperationException;
 import documents.listener.DocumentCreationListener;
 import documents.listener.DocumentCreationListenerAware;
-import documents.service.PaymentOrderProcessingService;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -12,16 +12,22 @@ import javafx.scene.control.TextField;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import documents.model.PaymentOrder;
+import documents.service.DocumentExportService;
+import documents.service.DocumentImportService;
 import documents.service.PaymentOrderService;
+import documents.validation.DocumentValidators;
+import documents.validation.Violation;
 import net.rgielen.fxweaver.core.FxmlView;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.File;
-import java.io.PrintWriter;
 import java.math.BigDecimal;
-import java.util.Scanner;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @Scope("prototype")
@@ -56,7 +62,9 @@ public class PaymentOrderController implements DocumentCreationListenerAware {
     private final FileChooser fileChooser = new FileChooser();
 
     @Autowired
-    private PaymentOrderProcessingService paymentOrderProcessingService;
+    private DocumentImportService documentImportService;
+    @Autowired
+    private DocumentExportService documentExportService;
 
     @Override
     public void setCreationListener(DocumentCreationListener listener) {
@@ -65,8 +73,11 @@ public class PaymentOrderController implements DocumentCreationListenerAware {
 
     @FXML
     private void createPaymentOrder(ActionEvent event) {
-        if (!isValidInput()) {
-            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения.");
+        List<Violation> violations = validateInput();
+        if (!violations.isEmpty()) {
+            showAlertWithError("Ошибка ввода", "Пожалуйста, проверьте введённые значения:\n" + violations.stream()
+                    .map(Violation::toString)
+                    .collect(Collectors.joining("\n")));
             return;
         }
 
@@ -90,18 +101,17 @@ public class PaymentOrderController implements DocumentCreationListenerAware {
         }
     }
 
-    private boolean isValidInput() {
-        String namePattern = "[a-zA-Zа-яА-Я ]*";
-        String numberPattern = "\\d+(\\.\\d+)?";
-        return numberField.getText().matches("\\d+") &&
-                datePicker.getValue() != null &&
-                userField.getText().matches(namePattern) &&
-                contractorField.getText().matches(namePattern) &&
-                !amountField.getText().isEmpty() &&
-                amountField.getText().matches(numberPattern) &&
-                currencyField.getText().matches(namePattern) &&
-                currencyRateField.getText().matches(numberPattern) &&
-                commissionField.getText().matches(numberPattern);
+    private List<Violation> validateInput() {
+        Map<String, Object> input = new HashMap<>();
+        input.put(DocumentValidators.NUMBER, numberField.getText());
+        input.put(DocumentValidators.DATE, datePicker.getValue());
+        input.put(DocumentValidators.USER, userField.getText());
+        input.put(DocumentValidators.CONTRACTOR, contractorField.getText());
+        input.put(DocumentValidators.AMOUNT, amountField.getText());
+        input.put(DocumentValidators.CURRENCY, currencyField.getText());
+        input.put(DocumentValidators.CURRENCY_RATE, currencyRateField.getText());
+        input.put(DocumentValidators.COMMISSION, commissionField.getText());
+        return DocumentValidators.PAYMENT_ORDER.validateInput(input);
     }
 
     private void notifyDocumentCreation(PaymentOrder paymentOrder) {
@@ -122,11 +132,9 @@ public class PaymentOrderController implements DocumentCreationListenerAware {
     private void savePaymentOrdersToFile() {
         File file = fileChooser.showSaveDialog(null);
         if (file != null) {
-            try (PrintWriter writer = new PrintWriter(file)) {
-                for (PaymentOrder paymentOrder : paymentOrderService.getAllPaymentOrders()) {
-                    writer.println(paymentOrderProcessingService.formatPaymentOrderForFile(paymentOrder));
-                }
-            } catch (Exception e) {
+            try {
+                documentExportService.exportPaymentOrders(file.toPath());
+            } catch (ServiceOperationException e) {
                 showAlertWithError("Ошибка сохранения", "Не удалось сохранить файл: " + e.getMessage());
             }
         }
@@ -136,20 +144,13 @@ public class PaymentOrderController implements DocumentCreationListenerAware {
     private void loadPaymentOrdersFromFile() {
         File file = fileChooser.showOpenDialog(null);
         if (file != null) {
-            try (Scanner scanner = new Scanner(file)) {
-                while (scanner.hasNextLine()) {
-                    String line = scanner.nextLine();
-                    try {
-                        PaymentOrder paymentOrder = paymentOrderProcessingService.parsePaymentOrderFromLine(line);
-                        paymentOrderService.createPaymentOrder(paymentOrder);
-                        notifyDocumentCreation(paymentOrder);
-                    } catch (IllegalArgumentException e) {
-                        showAlertWithError("Ошибка парсинга", e.getMessage());
-                    }
-                }
-            } catch (Exception e) {
-                showAlertWithError("Ошибка загрузки", "Не удалось загрузить файл: " + e.getMessage());
-            }
+            ImportReportAlert.showWhenDone(() -> documentImportService.importPaymentOrders(file.toPath(), this::notifyDocumentsCreation));
+        }
+    }
+
+    private void notifyDocumentsCreation(List<PaymentOrder> paymentOrders) {
+        if (this.creationListener != null) {
+            this.creationListener.onDocumentsCreated(paymentOrders);
         }
     }
 
@@ -0,0 +1,242 @@
+package documents.generator;
+
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/** Детерминированный генератор: одно и то же зерно всегда даёт одни и те же документы. */
+public final class DocumentGenerator {
+
+    public static final LocalDate FIRST_DATE = LocalDate.of(2023, 1, 1);
+    public static final int DAYS = 365;
+
+    private static final long FIRST_NUMBER = 1_000_000;
+    private static final long INVOICE_SALT = 0x1A2B3C4D5E6F7081L;
+    private static final long PAYMENT_SALT = 0x2B3C4D5E6F708192L;
+    private static final long PAYMENT_ORDER_SALT = 0x3C4D5E6F708192A3L;
+    private static final long MIX_SALT = 0x4D5E6F708192A3B4L;
+
+    private static final String[] MALE_FIRST_NAMES = {"Александр", "Алексей", "Андрей", "Борис", "Вадим", "Виктор",
+            "Владимир", "Дмитрий", "Евгений", "Иван", "Игорь", "Константин", "Максим", "Михаил", "Николай", "Олег",
+            "Павел", "Петр", "Роман", "Сергей"};
+    private static final String[] FEMALE_FIRST_NAMES = {"Анастасия", "Анна", "Валентина", "Вера", "Галина", "Дарья",
+            "Екатерина", "Елена", "Ирина", "Ксения", "Любовь", "Марина", "Мария", "Наталья", "Нина", "Ольга",
+            "Светлана", "Татьяна", "Юлия", "Яна"};
+    private static final String[] SURNAMES = {"Иванов", "Смирнов", "Кузнецов", "Попов", "Васильев", "Петров",
+            "Соколов", "Михайлов", "Новиков", "Федоров", "Морозов", "Волков", "Алексеев", "Лебедев", "Семенов",
+            "Егоров", "Павлов", "Козлов", "Степанов", "Николаев", "Орлов", "Андреев", "Макаров", "Никитин", "Захаров"};
+    private static final String[] COMPANY_KINDS = {"Торговый дом", "Группа компаний", "Завод", "Фабрика",
+            "Агентство", "Компания", "Типография", "Склад"};
+    private static final String[] COMPANY_NAMES = {"Север", "Восток", "Альфа", "Вектор", "Ромашка", "Гранит",
+            "Меридиан", "Сфера", "Прогресс", "Импульс", "Орион", "Спектр", "Лидер", "Волга", "Урал", "Байкал",
+            "Кедр", "Янтарь", "Рассвет", "Горизонт"};
+    private static final String[] PRODUCTS = {"Бумага офисная", "Картридж для принтера", "Ручка шариковая",
+            "Папка для документов", "Степлер", "Скрепки канцелярские", "Ноутбук", "Монитор", "Клавиатура",
+            "Мышь компьютерная", "Кресло офисное", "Стол письменный", "Шкаф для документов", "Тонер черный",
+            "Блокнот", "Калькулятор", "Маркер текстовый", "Лампа настольная", "Кулер для воды", "Вода питьевая",
+            "Чай черный", "Кофе молотый", "Сахар", "Салфетки бумажные", "Моющее средство", "Перчатки рабочие",
+            "Кабель сетевой", "Роутер", "Телефон", "Принтер лазерный"};
+
+    private static final String[] PEOPLE = people();
+    private static final String[] COMPANIES = companies();
+
+    private static final ZipfDistribution PEOPLE_RANKS = new ZipfDistribution(PEOPLE.length, 1.1);
+    private static final ZipfDistribution COMPANY_RANKS = new ZipfDistribution(COMPANIES.length, 1.2);
+    private static final ZipfDistribution PRODUCT_RANKS = new ZipfDistribution(PRODUCTS.length, 1.0);
+
+    private static final String[] CURRENCIES = {"RUB", "USD", "EUR", "CNY"};
+    private static final double[] CURRENCY_SHARES = {0.70, 0.15, 0.10, 0.05};
+    private static final double[] CURRENCY_RATES = {1.0, 90.0, 98.0, 12.5};
+    private static final double[] CURRENCY_RATE_SPREAD = {0.0, 3.0, 3.0, 0.4};
+
+    private static final double MONTH_END_SHARE = 0.6;
+    private static final double MONTH_END_SPREAD = 2.0;
+
+    private static final double MAX_AMOUNT = 99_999_999.99;
+
+    private final long seed;
+
+    public DocumentGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public Iterable<Invoice> invoices(long count) {
+        return () -> new Sequence<>(count, INVOICE_SALT, Sampler::invoice);
+    }
+
+    public Iterable<Payment> payments(long count) {
+        return () -> new Sequence<>(count, PAYMENT_SALT, Sampler::payment);
+    }
+
+    public Iterable<PaymentOrder> paymentOrders(long count) {
+        return () -> new Sequence<>(count, PAYMENT_ORDER_SALT, Sampler::paymentOrder);
+    }
+
+    public Iterable<DisplayableDocument> documents(long count) {
+        return () -> new Iterator<>() {
+            private final SplittableRandom mix = new SplittableRandom(seed ^ MIX_SALT);
+            private final Iterator<Invoice> invoices = invoices(Long.MAX_VALUE).iterator();
+            private final Iterator<Payment> payments = payments(Long.MAX_VALUE).iterator();
+            private final Iterator<PaymentOrder> paymentOrders = paymentOrders(Long.MAX_VALUE).iterator();
+            private long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public DisplayableDocument next() {
+                if (remaining-- <= 0) {
+                    throw new NoSuchElementException();
+                }
+                double kind = mix.nextDouble();
+                return kind < 0.5 ? invoices.next() : kind < 0.75 ? payments.next() : paymentOrders.next();
+            }
+        };
+    }
+
+    private static String[] people() {
+        List<String> people = new ArrayList<>();
+        for (String surname : SURNAMES) {
+            for (int i = 0; i < MALE_FIRST_NAMES.length; i++) {
+                people.add(surname + " " + MALE_FIRST_NAMES[i]);
+                people.add(surname + "а " + FEMALE_FIRST_NAMES[i]);
+            }
+        }
+        return shuffle(people.toArray(new String[0]), 0x5EEDL);
+    }
+
+    private static String[] companies() {
+        List<String> companies = new ArrayList<>();
+        for (String kind : COMPANY_KINDS) {
+            for (String name : COMPANY_NAMES) {
+                companies.add(kind + " " + name);
+            }
+        }
+        return shuffle(companies.toArray(new String[0]), 0xC0FFEEL);
+    }
+
+    private static String[] shuffle(String[] values, long salt) {
+        SplittableRandom random = new SplittableRandom(salt);
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        return values;
+    }
+
+    private final class Sequence<T> implements Iterator<T> {
+
+        private final long count;
+        private final Function<Sampler, T> factory;
+        private final Sampler sampler;
+
+        Sequence(long count, long salt, Function<Sampler, T> factory) {
+            this.count = count;
+            this.factory = factory;
+            this.sampler = new Sampler(new SplittableRandom(seed ^ salt));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sampler.index < count;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T document = factory.apply(sampler);
+            sampler.index++;
+            return document;
+        }
+    }
+
+    private static final class Sampler {
+
+        private final SplittableRandom random;
+        private long index;
+
+        Sampler(SplittableRandom random) {
+            this.random = random;
+        }
+
+        Invoice invoice() {
+            int currency = currency();
+            return new Invoice(null, number(), date(), person(), amount(), CURRENCIES[currency], rate(currency),
+                    PRODUCTS[PRODUCT_RANKS.sample(random)], quantity());
+        }
+
+        Payment payment() {
+            return new Payment(null, number(), date(), person(), amount(), person());
+        }
+
+        PaymentOrder paymentOrder() {
+            int currency = currency();
+            BigDecimal amount = amount();
+            return new PaymentOrder(null, number(), date(), person(), COMPANIES[COMPANY_RANKS.sample(random)],
+                    amount, CURRENCIES[currency], rate(currency), commission(amount));
+        }
+
+        private String number() {
+            return Long.toString(FIRST_NUMBER + index);
+        }
+
+        private String person() {
+            return PEOPLE[PEOPLE_RANKS.sample(random)];
+        }
+
+        private LocalDate date() {
+            if (random.nextDouble() >= MONTH_END_SHARE) {
+                return FIRST_DATE.plusDays(random.nextInt(DAYS));
+            }
+            LocalDate monthEnd = FIRST_DATE.plusMonths(random.nextInt(12)).withDayOfMonth(1).plusMonths(1).minusDays(1);
+            long shift = Math.round(Math.abs(random.nextGaussian()) * MONTH_END_SPREAD);
+            return monthEnd.minusDays(shift);
+        }
+
+        private int currency() {
+            double share = random.nextDouble();
+            for (int i = 0; i < CURRENCY_SHARES.length - 1; i++) {
+                share -= CURRENCY_SHARES[i];
+                if (share < 0) {
+                    return i;
+                }
+            }
+            return CURRENCY_SHARES.length - 1;
+        }
+
+        private BigDecimal rate(int currency) {
+            double rate = CURRENCY_RATES[currency] + random.nextGaussian() * CURRENCY_RATE_SPREAD[currency];
+            return BigDecimal.valueOf(Math.max(rate, 0.01)).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private BigDecimal amount() {
+            double amount = Math.exp(Math.log(20_000) + random.nextGaussian() * 1.2);
+            return BigDecimal.valueOf(Math.min(Math.max(amount, 1), MAX_AMOUNT)).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private BigDecimal quantity() {
+            return BigDecimal.valueOf(Math.min(1 + (long) Math.exp(random.nextGaussian() * 1.5 + 1), 10_000));
+        }
+
+        private BigDecimal commission(BigDecimal amount) {
+            return amount.multiply(BigDecimal.valueOf(10 + random.nextInt(91), 4)).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package documents.generator;
+
+public enum GeneratedType {
+    INVOICES("invoices"),
+    PAYMENTS("payments"),
+    PAYMENT_ORDERS("payment-orders"),
+    ALL("all");
+
+    private final String name;
+
+    GeneratedType(String name) {
+        this.name = name;
+    }
+
+    public static GeneratedType fromName(String name) {
+        for (GeneratedType type : values()) {
+            if (type.name.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный тип документов: " + name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,91 @@
+package documents.generator;
+
+import documents.MySpringApplication;
+import documents.exception.ServiceOperationException;
+import documents.service.DocumentGeneratorService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** {@code --count=N [--seed=42] [--type=...] (--output=файл [--format=csv|archive|snapshot] | --database)} */
+public final class GeneratorCli {
+
+    private static final long DEFAULT_SEED = 42;
+
+    private GeneratorCli() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage();
+            System.exit(2);
+            return;
+        }
+        boolean database = options.containsKey("database");
+        if (!options.containsKey("count") || database == options.containsKey("output")) {
+            usage();
+            System.exit(2);
+        }
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(MySpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .headless(true)
+                .bannerMode(Banner.Mode.OFF);
+        String[] overrides = database ? new String[0] : new String[]{
+                "--spring.main.lazy-initialization=true",
+                "--spring.sql.init.mode=never",
+                "--spring.autoconfigure.exclude=" + HibernateJpaAutoConfiguration.class.getName()
+                        + "," + JpaRepositoriesAutoConfiguration.class.getName()};
+        try (ConfigurableApplicationContext context = builder.run(overrides)) {
+            DocumentGeneratorService service = context.getBean(DocumentGeneratorService.class);
+            GeneratedType type = GeneratedType.fromName(options.getOrDefault("type", GeneratedType.ALL.toString()));
+            long count = Long.parseLong(options.get("count"));
+            long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(DEFAULT_SEED)));
+            long started = System.nanoTime();
+            long generated;
+            if (database) {
+                generated = service.loadIntoDatabase(type, count, seed);
+            } else {
+                Path file = Path.of(options.get("output"));
+                OutputFormat format = options.containsKey("format")
+                        ? OutputFormat.valueOf(options.get("format").toUpperCase(Locale.ROOT))
+                        : OutputFormat.forFile(file);
+                generated = service.writeFile(type, count, seed, file, format);
+            }
+            System.out.printf("Сгенерировано документов: %d за %d мс%n", generated, (System.nanoTime() - started) / 1_000_000);
+        } catch (ServiceOperationException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Неизвестный аргумент: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(separator < 0 ? arg.substring(2) : arg.substring(2, separator),
+                    separator < 0 ? "" : arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static void usage() {
+        System.err.println("Использование: GeneratorCli --count=N [--seed=42] [--type=all|invoices|payments|payment-orders]"
+                + " (--output=файл [--format=csv|archive|snapshot] | --database)");
+    }
+}
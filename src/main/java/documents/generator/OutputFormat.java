@@ -0,0 +1,17 @@
+package documents.generator;
+
+import documents.service.DocumentSnapshotService;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum OutputFormat {
+    CSV, ARCHIVE, SNAPSHOT;
+
+    public static OutputFormat forFile(Path file) {
+        if (DocumentSnapshotService.isSnapshotFile(file)) {
+            return SNAPSHOT;
+        }
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".txt") ? ARCHIVE : CSV;
+    }
+}
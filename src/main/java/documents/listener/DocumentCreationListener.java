@@ -2,6 +2,12 @@ package documents.listener;
 
 import documents.model.DisplayableDocument;
 
+import java.util.List;
+
 public interface DocumentCreationListener {
     void onDocumentCreated(DisplayableDocument document);
+
+    default void onDocumentsCreated(List<? extends DisplayableDocument> documents) {
+        documents.forEach(this::onDocumentCreated);
+    }
 }
@@ -0,0 +1,29 @@
+package documents.model;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/** Незаданное условие не ограничивает выборку, пустой набор типов означает все типы. */
+@Value
+@Builder
+public class DocumentFilter {
+
+    public static final DocumentFilter ALL = DocumentFilter.builder().build();
+
+    @Singular
+    Set<DocumentType> types;
+
+    LocalDate dateFrom;
+
+    LocalDate dateTo;
+
+    String user;
+
+    String numberPrefix;
+
+    boolean descending;
+}
@@ -0,0 +1,12 @@
+package documents.model;
+
+import lombok.Value;
+
+/** id уникален только внутри своей таблицы. */
+@Value
+public class DocumentKey {
+
+    DocumentType type;
+
+    Integer id;
+}
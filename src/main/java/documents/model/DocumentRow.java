@@ -0,0 +1,53 @@
+package documents.model;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/** Строка общего списка; полный документ загружается по {@link #getKey()}. */
+@Value
+public class DocumentRow implements DisplayableDocument {
+
+    public static final Comparator<DocumentRow> LIST_ORDER = Comparator.comparing(DocumentRow::getDate)
+            .thenComparing(DocumentRow::getType)
+            .thenComparing(DocumentRow::getId);
+
+    DocumentType type;
+
+    Integer id;
+
+    String number;
+
+    LocalDate date;
+
+    String user;
+
+    BigDecimal amount;
+
+    public static DocumentRow of(DisplayableDocument document) {
+        if (document instanceof DocumentRow row) {
+            return row;
+        } else if (document instanceof Invoice invoice) {
+            return new DocumentRow(DocumentType.INVOICE, invoice.getId(), invoice.getNumber(), invoice.getDate(),
+                    invoice.getUser(), invoice.getAmount());
+        } else if (document instanceof Payment payment) {
+            return new DocumentRow(DocumentType.PAYMENT, payment.getId(), payment.getNumber(), payment.getDate(),
+                    payment.getUser(), payment.getAmount());
+        } else if (document instanceof PaymentOrder paymentOrder) {
+            return new DocumentRow(DocumentType.PAYMENT_ORDER, paymentOrder.getId(), paymentOrder.getNumber(),
+                    paymentOrder.getDate(), paymentOrder.getUser(), paymentOrder.getAmount());
+        }
+        throw new IllegalArgumentException("Неизвестный тип документа: " + document.getClass().getName());
+    }
+
+    public DocumentKey getKey() {
+        return new DocumentKey(type, id);
+    }
+
+    @Override
+    public String getDisplayText() {
+        return type.displayText(date, number);
+    }
+}
@@ -0,0 +1,14 @@
+package documents.model;
+
+/** Шаг последовательностей в {@code schema.sql} должен совпадать с {@link #ALLOCATION_SIZE}. */
+public final class DocumentSequences {
+
+    public static final int ALLOCATION_SIZE = 1000;
+
+    public static final String INVOICES = "invoices_id_seq";
+    public static final String PAYMENTS = "payments_id_seq";
+    public static final String PAYMENT_ORDERS = "payment_orders_id_seq";
+
+    private DocumentSequences() {
+    }
+}
@@ -0,0 +1,44 @@
+package documents.model;
+
+import java.time.LocalDate;
+
+public enum DocumentType {
+    INVOICE("Накладная", Invoice.class, "invoices"),
+    PAYMENT("Платёжка", Payment.class, "payments"),
+    PAYMENT_ORDER("Заявка на оплату", PaymentOrder.class, "payment_orders");
+
+    private final String title;
+    private final Class<? extends DisplayableDocument> documentClass;
+    private final String table;
+
+    DocumentType(String title, Class<? extends DisplayableDocument> documentClass, String table) {
+        this.title = title;
+        this.documentClass = documentClass;
+        this.table = table;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Class<? extends DisplayableDocument> getDocumentClass() {
+        return documentClass;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String displayText(LocalDate date, String number) {
+        return title + " от " + date + " номер " + number;
+    }
+
+    public static DocumentType of(DisplayableDocument document) {
+        for (DocumentType type : values()) {
+            if (type.documentClass.isInstance(document)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный тип документа: " + document.getClass().getName());
+    }
+}
@@ -0,0 +1,33 @@
+package documents.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Builder
+public class ExportReport {
+
+    private final Path directory;
+
+    private final long invoiceCount;
+
+    private final long paymentCount;
+
+    private final long paymentOrderCount;
+
+    private final String snapshotId;
+
+    private final Duration elapsed;
+
+    public long getTotalCount() {
+        return invoiceCount + paymentCount + paymentOrderCount;
+    }
+
+    public String getSummary() {
+        return String.format("Выгружено в %s: накладных %d, платёжек %d, заявок на оплату %d за %d мс",
+                directory, invoiceCount, paymentCount, paymentOrderCount, elapsed.toMillis());
+    }
+}
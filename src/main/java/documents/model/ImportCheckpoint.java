@@ -0,0 +1,47 @@
+package documents.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCheckpoint {
+
+    @Id
+    @Column(name = "import_key")
+    private String importKey;
+
+    private long fileSize;
+
+    private long fileModified;
+
+    private long byteOffset;
+
+    private long lineNumber;
+
+    private long batchCount;
+
+    private long importedCount;
+
+    private long rejectedCount;
+
+    private long rejectedFileSize;
+
+    private LocalDateTime updatedAt;
+
+    public boolean matches(long size, long modified) {
+        return fileSize == size && fileModified == modified;
+    }
+}
@@ -0,0 +1,10 @@
+package documents.model;
+
+import lombok.Value;
+
+@Value
+public class ImportError {
+    long lineNumber;
+    String message;
+    String line;
+}
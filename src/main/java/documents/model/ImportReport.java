@@ -0,0 +1,64 @@
+package documents.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Builder
+public class ImportReport {
+
+    private final long totalLines;
+
+    private final long importedCount;
+
+    private final long batchCount;
+
+    private final Duration elapsed;
+
+    private final long resumedFromLine;
+
+    private final long previouslyFailedCount;
+
+    private final long previouslyImportedCount;
+
+    private final Path rejectedFile;
+
+    private final long failedCount;
+
+    @Singular
+    private final List<ImportError> errors;
+
+    public long getFailedCount() {
+        return previouslyFailedCount + failedCount;
+    }
+
+    public boolean isResumed() {
+        return resumedFromLine > 0;
+    }
+
+    public List<Long> getFailedLineNumbers() {
+        return errors.stream().map(ImportError::getLineNumber).toList();
+    }
+
+    public double getRowsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return (importedCount - previouslyImportedCount) * 1000.0 / millis;
+    }
+
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format("Импортировано: %d из %d строк, ошибок: %d, скорость: %.0f строк/с",
+                importedCount, totalLines, getFailedCount(), getRowsPerSecond()));
+        if (isResumed()) {
+            summary.append("\nИмпорт продолжен после строки ").append(resumedFromLine);
+        }
+        if (rejectedFile != null) {
+            summary.append("\nОтклонённые строки: ").append(rejectedFile);
+        }
+        return summary.toString();
+    }
+}
@@ -18,7 +18,9 @@ import java.time.LocalDate;
 public class Invoice implements DisplayableDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = DocumentSequences.INVOICES)
+    @SequenceGenerator(name = DocumentSequences.INVOICES, sequenceName = DocumentSequences.INVOICES,
+            allocationSize = DocumentSequences.ALLOCATION_SIZE)
     private Integer id;
 
     private String number;
@@ -41,6 +43,6 @@ public class Invoice implements DisplayableDocument {
 
     @Override
     public String getDisplayText() {
-        return "Накладная от " + date.toString() + " номер " + number;
+        return DocumentType.INVOICE.displayText(date, number);
     }
 }
@@ -0,0 +1,25 @@
+package documents.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ParsedChunk<T> {
+
+    private final long firstLineNumber;
+
+    private final long lineCount;
+
+    private final long endOffset;
+
+    private final List<T> documents;
+
+    private final List<ImportError> errors;
+
+    private final long[] documentLineNumbers;
+
+    private final long[] documentEndOffsets;
+}
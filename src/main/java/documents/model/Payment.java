@@ -18,7 +18,9 @@ import java.time.LocalDate;
 public class Payment implements DisplayableDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = DocumentSequences.PAYMENTS)
+    @SequenceGenerator(name = DocumentSequences.PAYMENTS, sequenceName = DocumentSequences.PAYMENTS,
+            allocationSize = DocumentSequences.ALLOCATION_SIZE)
     private Integer id;
 
     private String number;
@@ -34,6 +36,6 @@ public class Payment implements DisplayableDocument {
 
     @Override
     public String getDisplayText() {
-        return "Платёжка от " + date.toString() + " номер " + number;
+        return DocumentType.PAYMENT.displayText(date, number);
     }
 }
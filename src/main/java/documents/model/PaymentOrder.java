@@ -18,7 +18,9 @@ import java.time.LocalDate;
 public class PaymentOrder implements DisplayableDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = DocumentSequences.PAYMENT_ORDERS)
+    @SequenceGenerator(name = DocumentSequences.PAYMENT_ORDERS, sequenceName = DocumentSequences.PAYMENT_ORDERS,
+            allocationSize = DocumentSequences.ALLOCATION_SIZE)
     private Integer id;
 
     private String number;
@@ -40,6 +42,6 @@ public class PaymentOrder implements DisplayableDocument {
 
     @Override
     public String getDisplayText() {
-        return "Заявка на оплату от " + date.toString() + " номер " + number;
+        return DocumentType.PAYMENT_ORDER.displayText(date, number);
     }
 }
@@ -1,10 +1,34 @@
 package documents.repository;
 
 import documents.model.Invoice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Component
 public interface InvoiceRepository extends JpaRepository<Invoice, Integer> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select i from Invoice i order by i.id")
+    Stream<Invoice> streamAll();
+
+    List<Invoice> findByDateBetweenOrderByDateAscIdAsc(LocalDate from, LocalDate to, Pageable pageable);
+
+    List<Invoice> findByNumber(String number);
+
+    List<Invoice> findByNumberStartingWithOrderByNumberAsc(String prefix, Pageable pageable);
+
+    List<Invoice> findByUserOrderByDateAscIdAsc(String user, Pageable pageable);
 }
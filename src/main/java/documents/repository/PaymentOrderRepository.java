@@ -1,10 +1,36 @@
 package documents.repository;
 
 import documents.model.PaymentOrder;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface PaymentOrderRepository extends JpaRepository<PaymentOrder, Integer> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select po from PaymentOrder po order by po.id")
+    Stream<PaymentOrder> streamAll();
+
+    List<PaymentOrder> findByDateBetweenOrderByDateAscIdAsc(LocalDate from, LocalDate to, Pageable pageable);
+
+    List<PaymentOrder> findByNumber(String number);
+
+    List<PaymentOrder> findByNumberStartingWithOrderByNumberAsc(String prefix, Pageable pageable);
+
+    List<PaymentOrder> findByUserOrderByDateAscIdAsc(String user, Pageable pageable);
+
+    List<PaymentOrder> findByContractorOrderByDateAscIdAsc(String contractor, Pageable pageable);
 }
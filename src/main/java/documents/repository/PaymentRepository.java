@@ -1,10 +1,36 @@
 package documents.repository;
 
 import documents.model.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from Payment p order by p.id")
+    Stream<Payment> streamAll();
+
+    List<Payment> findByDateBetweenOrderByDateAscIdAsc(LocalDate from, LocalDate to, Pageable pageable);
+
+    List<Payment> findByNumber(String number);
+
+    List<Payment> findByNumberStartingWithOrderByNumberAsc(String prefix, Pageable pageable);
+
+    List<Payment> findByUserOrderByDateAscIdAsc(String user, Pageable pageable);
+
+    List<Payment> findByEmployeeOrderByDateAscIdAsc(String employee, Pageable pageable);
 }
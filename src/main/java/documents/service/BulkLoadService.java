@@ -0,0 +1,262 @@
+package documents.service;
+
+import documents.codec.DateCodec;
+import documents.codec.FieldTokenizer;
+import documents.model.DocumentSequences;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Service
+public class BulkLoadService {
+
+    private static final String INVOICE_COLUMNS = "invoices (id, number, date, user_name, amount, currency, currency_rate, product, quantity)";
+    private static final String PAYMENT_COLUMNS = "payments (id, number, date, user_name, amount, employee)";
+    private static final String PAYMENT_ORDER_COLUMNS = "payment_orders (id, number, date, user_name, contractor, amount, currency, currency_rate, commission)";
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean copyEnabled;
+    private final int batchSize;
+
+    @Autowired
+    public BulkLoadService(JdbcTemplate jdbcTemplate,
+                           @Value("${documents.bulk-load.copy-enabled:true}") boolean copyEnabled,
+                           @Value("${documents.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.copyEnabled = copyEnabled;
+        this.batchSize = batchSize;
+    }
+
+    public long loadInvoices(List<Invoice> invoices) {
+        return load(INVOICE_COLUMNS, DocumentSequences.INVOICES, 9, invoices, (invoice, row) -> row
+                .text(invoice.getNumber())
+                .date(invoice.getDate())
+                .text(invoice.getUser())
+                .decimal(invoice.getAmount())
+                .text(invoice.getCurrency())
+                .decimal(invoice.getCurrencyRate())
+                .text(invoice.getProduct())
+                .decimal(invoice.getQuantity()));
+    }
+
+    public long loadPayments(List<Payment> payments) {
+        return load(PAYMENT_COLUMNS, DocumentSequences.PAYMENTS, 6, payments, (payment, row) -> row
+                .text(payment.getNumber())
+                .date(payment.getDate())
+                .text(payment.getUser())
+                .decimal(payment.getAmount())
+                .text(payment.getEmployee()));
+    }
+
+    public long loadPaymentOrders(List<PaymentOrder> paymentOrders) {
+        return load(PAYMENT_ORDER_COLUMNS, DocumentSequences.PAYMENT_ORDERS, 9, paymentOrders, (paymentOrder, row) -> row
+                .text(paymentOrder.getNumber())
+                .date(paymentOrder.getDate())
+                .text(paymentOrder.getUser())
+                .text(paymentOrder.getContractor())
+                .decimal(paymentOrder.getAmount())
+                .text(paymentOrder.getCurrency())
+                .decimal(paymentOrder.getCurrencyRate())
+                .decimal(paymentOrder.getCommission()));
+    }
+
+    private <T> long load(String table, String sequence, int columnCount, List<T> documents, RowMapper<T> mapper) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        int[] ids = allocateIds(sequence, documents.size());
+        Long loaded = jdbcTemplate.execute((Connection connection) -> {
+            if (copyEnabled && connection.isWrapperFor(PGConnection.class)) {
+                return copy(connection.unwrap(PGConnection.class), table, ids, documents, mapper);
+            }
+            return null;
+        });
+        if (loaded != null) {
+            return loaded;
+        }
+        return insertInBatches(table, columnCount, ids, documents, mapper);
+    }
+
+    private int[] allocateIds(String sequence, int count) {
+        int[] ids = new int[count];
+        String sql = "SELECT nextval('" + sequence + "')";
+        for (int start = 0; start < count; start += DocumentSequences.ALLOCATION_SIZE) {
+            Long first = jdbcTemplate.queryForObject(sql, Long.class);
+            if (first == null) {
+                throw new IllegalStateException("Последовательность " + sequence + " не вернула значение");
+            }
+            int end = Math.min(count, start + DocumentSequences.ALLOCATION_SIZE);
+            for (int i = start; i < end; i++) {
+                ids[i] = Math.toIntExact(first + (i - start));
+            }
+        }
+        return ids;
+    }
+
+    private <T> long copy(PGConnection connection, String table, int[] ids, List<T> documents,
+                          RowMapper<T> mapper) throws SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection,
+                "COPY " + table + " FROM STDIN WITH (FORMAT csv)", COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+            CopyRowWriter row = new CopyRowWriter(writer);
+            for (int i = 0; i < ids.length; i++) {
+                mapper.write(documents.get(i), row.integer(ids[i]));
+                row.endRow();
+            }
+            writer.flush();
+            return copy.endCopy();
+        } catch (IOException e) {
+            throw new SQLException("Ошибка при выполнении COPY в " + table, e);
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private <T> long insertInBatches(String table, int columnCount, int[] ids, List<T> documents, RowMapper<T> mapper) {
+        String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+        String sql = "INSERT INTO " + table + " VALUES (" + placeholders + ")";
+        List<Integer> rows = IntStream.range(0, ids.length).boxed().toList();
+        ParameterizedPreparedStatementSetter<Integer> setter = (statement, row) ->
+                mapper.write(documents.get(row), new StatementRowWriter(statement).integer(ids[row]));
+        int[][] counts = jdbcTemplate.batchUpdate(sql, rows, batchSize, setter);
+        long total = 0;
+        for (int[] batch : counts) {
+            total += batch.length;
+        }
+        return total;
+    }
+
+    private interface RowMapper<T> {
+        void write(T document, RowWriter row) throws SQLException;
+    }
+
+    private interface RowWriter {
+        RowWriter integer(int value) throws SQLException;
+
+        RowWriter text(String value) throws SQLException;
+
+        RowWriter date(LocalDate value) throws SQLException;
+
+        RowWriter decimal(BigDecimal value) throws SQLException;
+    }
+
+    private static class CopyRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private boolean firstColumn = true;
+
+        CopyRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public RowWriter integer(int value) throws SQLException {
+            return column(Integer.toString(value));
+        }
+
+        @Override
+        public RowWriter text(String value) throws SQLException {
+            if (value == null) {
+                return column(null);
+            }
+            return column(value.isEmpty() ? "\"\"" : FieldTokenizer.escape(value));
+        }
+
+        @Override
+        public RowWriter date(LocalDate value) throws SQLException {
+            return column(value == null ? null : DateCodec.format(value));
+        }
+
+        @Override
+        public RowWriter decimal(BigDecimal value) throws SQLException {
+            return column(value == null ? null : value.toPlainString());
+        }
+
+        void endRow() throws IOException {
+            writer.write('\n');
+            firstColumn = true;
+        }
+
+        private RowWriter column(String value) throws SQLException {
+            try {
+                if (!firstColumn) {
+                    writer.write(',');
+                }
+                if (value != null) {
+                    writer.write(value);
+                }
+                firstColumn = false;
+                return this;
+            } catch (IOException e) {
+                throw new SQLException("Ошибка записи в поток COPY", e);
+            }
+        }
+    }
+
+    private static class StatementRowWriter implements RowWriter {
+
+        private final PreparedStatement statement;
+        private int index = 1;
+
+        StatementRowWriter(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public RowWriter integer(int value) throws SQLException {
+            return set(Types.INTEGER, value);
+        }
+
+        @Override
+        public RowWriter text(String value) throws SQLException {
+            return set(Types.VARCHAR, value);
+        }
+
+        @Override
+        public RowWriter date(LocalDate value) throws SQLException {
+            return set(Types.DATE, value == null ? null : Date.valueOf(value));
+        }
+
+        @Override
+        public RowWriter decimal(BigDecimal value) throws SQLException {
+            return set(Types.DECIMAL, value);
+        }
+
+        private RowWriter set(int sqlType, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index++, sqlType);
+            } else {
+                statement.setObject(index++, value, sqlType);
+            }
+            return this;
+        }
+    }
+}
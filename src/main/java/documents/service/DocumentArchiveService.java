@@ -0,0 +1,175 @@
+package documents.service;
+
+import documents.codec.DocumentSchemas;
+import documents.codec.Utf8Bytes;
+import documents.exception.ServiceOperationException;
+import documents.model.DisplayableDocument;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+@Service
+public class DocumentArchiveService {
+
+    private static final String ARCHIVE_HEADER = "#DOCUMENTS-ARCHIVE 1";
+    private static final String RECORD_PREFIX = "#RECORD ";
+    private static final int MAX_HEADER_LENGTH = 64;
+
+    public long writeArchive(Path file, Iterable<? extends DisplayableDocument> documents) throws ServiceOperationException {
+        return writeArchive(file, DocumentSource.of(documents));
+    }
+
+    public long writeArchive(Path file, DocumentSource documents) throws ServiceOperationException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            writeLine(out, ARCHIVE_HEADER);
+            return documents.forEach(new RecordWriter(out));
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при сохранении архива документов: " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new ServiceOperationException("Ошибка при сохранении архива документов: " + file, e.getCause());
+        }
+    }
+
+    public long readArchive(Path file, Consumer<DisplayableDocument> consumer) throws ServiceOperationException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            Utf8Bytes text = new Utf8Bytes();
+            String header = readLine(in);
+            if (!ARCHIVE_HEADER.equals(header)) {
+                ByteArrayOutputStream block = new ByteArrayOutputStream();
+                if (header != null) {
+                    writeLine(block, header);
+                    in.transferTo(block);
+                }
+                byte[] bytes = block.toByteArray();
+                consumer.accept(fromBlock(text.reset(ByteBuffer.wrap(bytes), 0, bytes.length)));
+                return 1;
+            }
+
+            long count = 0;
+            String recordHeader;
+            while ((recordHeader = readLine(in)) != null) {
+                if (recordHeader.isEmpty()) {
+                    continue;
+                }
+                if (!recordHeader.startsWith(RECORD_PREFIX)) {
+                    throw new ServiceOperationException("Некорректный заголовок записи в архиве: " + recordHeader);
+                }
+                int length = Integer.parseInt(recordHeader.substring(RECORD_PREFIX.length()).trim());
+                byte[] record = in.readNBytes(length);
+                if (record.length != length) {
+                    throw new ServiceOperationException("Архив обрывается внутри записи " + (count + 1));
+                }
+                consumer.accept(fromBlock(text.reset(ByteBuffer.wrap(record), 0, length)));
+                count++;
+            }
+            return count;
+        } catch (IOException | NumberFormatException e) {
+            throw new ServiceOperationException("Ошибка при чтении архива документов: " + file, e);
+        }
+    }
+
+    private static ByteBuffer encode(CharsetEncoder encoder, CharSequence text, ByteBuffer buffer) throws IOException {
+        int required = (int) (text.length() * encoder.maxBytesPerChar());
+        ByteBuffer target = buffer.capacity() < required ? ByteBuffer.allocate(required) : buffer.clear();
+        encoder.reset();
+        CoderResult result = encoder.encode(CharBuffer.wrap(text), target, true);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        result = encoder.flush(target);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        return target.flip();
+    }
+
+    public String toBlock(DisplayableDocument document) {
+        return DocumentSchemas.toBlock(document);
+    }
+
+    public DisplayableDocument fromBlock(CharSequence block) {
+        int start = skipWhitespace(block, 0, block.length());
+        int end = trimWhitespace(block, start, block.length());
+        int typeEnd = start;
+        while (typeEnd < end && block.charAt(typeEnd) != '\n') {
+            typeEnd++;
+        }
+        CharSequence documentType = block.subSequence(start, trimWhitespace(block, start, typeEnd));
+        CharSequence dataBlock = typeEnd < end ? block.subSequence(typeEnd + 1, end) : "";
+        return DocumentSchemas.forTitle(documentType).getBlockCodec().parse(dataBlock);
+    }
+
+    private static int skipWhitespace(CharSequence text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimWhitespace(CharSequence text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    private static final class RecordWriter implements Consumer<DisplayableDocument> {
+
+        private final OutputStream out;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder block = new StringBuilder(256);
+        private ByteBuffer record = ByteBuffer.allocate(1024);
+
+        RecordWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(DisplayableDocument document) {
+            try {
+                block.setLength(0);
+                record = encode(encoder, DocumentSchemas.appendBlock(document, block), record);
+                writeLine(out, RECORD_PREFIX + record.remaining());
+                out.write(record.array(), 0, record.limit());
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(MAX_HEADER_LENGTH);
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            line.write(b);
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        String value = line.toString(StandardCharsets.UTF_8);
+        return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+    }
+}
@@ -0,0 +1,126 @@
+package documents.service;
+
+import documents.exception.ServiceOperationException;
+import documents.model.DisplayableDocument;
+import documents.model.DocumentKey;
+import documents.model.DocumentRow;
+import documents.model.DocumentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/** Полные документы по строкам общего списка, с небольшим LRU-кэшем. */
+@Service
+public class DocumentDetailsService {
+
+    private final InvoiceService invoiceService;
+    private final PaymentService paymentService;
+    private final PaymentOrderService paymentOrderService;
+    private final int cacheSize;
+    private final Map<DocumentKey, DisplayableDocument> cache;
+
+    @Autowired
+    public DocumentDetailsService(InvoiceService invoiceService, PaymentService paymentService,
+                                  PaymentOrderService paymentOrderService,
+                                  @Value("${documents.details.cache-size:64}") int cacheSize) {
+        this.invoiceService = invoiceService;
+        this.paymentService = paymentService;
+        this.paymentOrderService = paymentOrderService;
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DocumentKey, DisplayableDocument> eldest) {
+                return size() > DocumentDetailsService.this.cacheSize;
+            }
+        };
+    }
+
+    public DisplayableDocument load(DisplayableDocument document) throws ServiceOperationException {
+        if (!(document instanceof DocumentRow row)) {
+            return document;
+        }
+        DocumentKey key = row.getKey();
+        DisplayableDocument cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<? extends DisplayableDocument> found = find(key.getType(), List.of(key.getId()));
+        if (found.isEmpty()) {
+            throw new ServiceOperationException("Документ не найден: " + row.getDisplayText(), null);
+        }
+        remember(found.get(0));
+        return found.get(0);
+    }
+
+    public List<DisplayableDocument> loadAll(List<? extends DisplayableDocument> documents) throws ServiceOperationException {
+        Map<DocumentType, List<Integer>> idsByType = new EnumMap<>(DocumentType.class);
+        for (DisplayableDocument document : documents) {
+            if (document instanceof DocumentRow row) {
+                idsByType.computeIfAbsent(row.getType(), type -> new ArrayList<>()).add(row.getId());
+            }
+        }
+        Map<DocumentKey, DisplayableDocument> loaded = new HashMap<>();
+        for (Map.Entry<DocumentType, List<Integer>> entry : idsByType.entrySet()) {
+            for (DisplayableDocument document : find(entry.getKey(), entry.getValue())) {
+                loaded.put(DocumentRow.of(document).getKey(), document);
+            }
+        }
+        List<DisplayableDocument> result = new ArrayList<>(documents.size());
+        for (DisplayableDocument document : documents) {
+            DisplayableDocument full = document instanceof DocumentRow row ? loaded.get(row.getKey()) : document;
+            if (full != null) {
+                result.add(full);
+            }
+        }
+        return result;
+    }
+
+    public long forEachDocument(Consumer<? super DisplayableDocument> consumer) {
+        return invoiceService.forEachInvoice(consumer::accept)
+                + paymentService.forEachPayment(consumer::accept)
+                + paymentOrderService.forEachPaymentOrder(consumer::accept);
+    }
+
+    public void remember(DisplayableDocument document) {
+        if (cacheSize > 0 && !(document instanceof DocumentRow)) {
+            synchronized (cache) {
+                cache.put(DocumentRow.of(document).getKey(), document);
+            }
+        }
+    }
+
+    public void evict(DisplayableDocument document) {
+        synchronized (cache) {
+            cache.remove(DocumentRow.of(document).getKey());
+        }
+    }
+
+    private DisplayableDocument cached(DocumentKey key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private List<? extends DisplayableDocument> find(DocumentType type, List<Integer> ids) throws ServiceOperationException {
+        Function<List<Integer>, List<? extends DisplayableDocument>> finder = switch (type) {
+            case INVOICE -> invoiceService::getInvoicesByIds;
+            case PAYMENT -> paymentService::getPaymentsByIds;
+            case PAYMENT_ORDER -> paymentOrderService::getPaymentOrdersByIds;
+        };
+        try {
+            return finder.apply(ids);
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при загрузке документов: " + type.getTitle(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package documents.service;
+
+import documents.codec.CompressionCodec;
+import documents.exception.ServiceOperationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Service
+public class DocumentExportService {
+
+    private final InvoiceService invoiceService;
+    private final PaymentService paymentService;
+    private final PaymentOrderService paymentOrderService;
+    private final InvoiceProcessingService invoiceProcessingService;
+    private final PaymentProcessingService paymentProcessingService;
+    private final PaymentOrderProcessingService paymentOrderProcessingService;
+
+    @Autowired
+    public DocumentExportService(InvoiceService invoiceService,
+                                 PaymentService paymentService,
+                                 PaymentOrderService paymentOrderService,
+                                 InvoiceProcessingService invoiceProcessingService,
+                                 PaymentProcessingService paymentProcessingService,
+                                 PaymentOrderProcessingService paymentOrderProcessingService) {
+        this.invoiceService = invoiceService;
+        this.paymentService = paymentService;
+        this.paymentOrderService = paymentOrderService;
+        this.invoiceProcessingService = invoiceProcessingService;
+        this.paymentProcessingService = paymentProcessingService;
+        this.paymentOrderProcessingService = paymentOrderProcessingService;
+    }
+
+    public long exportInvoices(Path file) throws ServiceOperationException {
+        return exportInvoices(file, CompressionCodec.forFile(file));
+    }
+
+    public long exportInvoices(Path file, CompressionCodec codec) throws ServiceOperationException {
+        return export(file, codec, writer -> invoiceService.forEachInvoice(
+                line(writer, invoiceProcessingService::writeInvoiceForFile)));
+    }
+
+    public long exportPayments(Path file) throws ServiceOperationException {
+        return exportPayments(file, CompressionCodec.forFile(file));
+    }
+
+    public long exportPayments(Path file, CompressionCodec codec) throws ServiceOperationException {
+        return export(file, codec, writer -> paymentService.forEachPayment(
+                line(writer, paymentProcessingService::writePaymentForFile)));
+    }
+
+    public long exportPaymentOrders(Path file) throws ServiceOperationException {
+        return exportPaymentOrders(file, CompressionCodec.forFile(file));
+    }
+
+    public long exportPaymentOrders(Path file, CompressionCodec codec) throws ServiceOperationException {
+        return export(file, codec, writer -> paymentOrderService.forEachPaymentOrder(
+                line(writer, paymentOrderProcessingService::writePaymentOrderForFile)));
+    }
+
+    private long export(Path file, CompressionCodec codec, Function<Writer, Long> exporter) throws ServiceOperationException {
+        try (BufferedWriter writer = codec.newWriter(file, StandardCharsets.UTF_8)) {
+            return exporter.apply(writer);
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при экспорте в файл: " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new ServiceOperationException("Ошибка при экспорте в файл: " + file, e.getCause());
+        } catch (IllegalArgumentException e) {
+            throw new ServiceOperationException("Ошибка при экспорте в файл: " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> Consumer<T> line(Writer writer, LineWriter<T> formatter) {
+        return document -> {
+            try {
+                formatter.write(document, writer);
+                writer.write(System.lineSeparator());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private interface LineWriter<T> {
+        void write(T document, Appendable out) throws IOException;
+    }
+}
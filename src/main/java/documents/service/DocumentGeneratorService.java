@@ -0,0 +1,147 @@
+package documents.service;
+
+import documents.codec.CompressionCodec;
+import documents.codec.DocumentSchema;
+import documents.codec.DocumentSchemas;
+import documents.exception.ServiceOperationException;
+import documents.generator.DocumentGenerator;
+import documents.generator.GeneratedType;
+import documents.generator.OutputFormat;
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+@Service
+public class DocumentGeneratorService {
+
+    private final DocumentArchiveService documentArchiveService;
+    private final DocumentSnapshotService documentSnapshotService;
+    private final BulkLoadService bulkLoadService;
+    private final int batchSize;
+
+    @Autowired
+    public DocumentGeneratorService(DocumentArchiveService documentArchiveService,
+                                    DocumentSnapshotService documentSnapshotService,
+                                    BulkLoadService bulkLoadService,
+                                    @Value("${documents.import.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Размер пакета должен быть положительным: " + batchSize);
+        }
+        this.documentArchiveService = documentArchiveService;
+        this.documentSnapshotService = documentSnapshotService;
+        this.bulkLoadService = bulkLoadService;
+        this.batchSize = batchSize;
+    }
+
+    public long writeFile(GeneratedType type, long count, long seed, Path file) throws ServiceOperationException {
+        return writeFile(type, count, seed, file, OutputFormat.forFile(file));
+    }
+
+    public long writeFile(GeneratedType type, long count, long seed, Path file, OutputFormat format) throws ServiceOperationException {
+        DocumentGenerator generator = new DocumentGenerator(seed);
+        return switch (format) {
+            case ARCHIVE -> documentArchiveService.writeArchive(file, documents(generator, type, count));
+            case SNAPSHOT -> documentSnapshotService.writeSnapshot(file, documents(generator, type, count));
+            case CSV -> switch (type) {
+                case INVOICES -> writeCsv(file, DocumentSchemas.INVOICE, generator.invoices(count));
+                case PAYMENTS -> writeCsv(file, DocumentSchemas.PAYMENT, generator.payments(count));
+                case PAYMENT_ORDERS -> writeCsv(file, DocumentSchemas.PAYMENT_ORDER, generator.paymentOrders(count));
+                case ALL -> throw new IllegalArgumentException("В файле CSV могут быть документы только одного типа");
+            };
+        };
+    }
+
+    public long loadIntoDatabase(GeneratedType type, long count, long seed) throws ServiceOperationException {
+        DocumentGenerator generator = new DocumentGenerator(seed);
+        try {
+            return switch (type) {
+                case INVOICES -> load(generator.invoices(count), bulkLoadService::loadInvoices);
+                case PAYMENTS -> load(generator.payments(count), bulkLoadService::loadPayments);
+                case PAYMENT_ORDERS -> load(generator.paymentOrders(count), bulkLoadService::loadPaymentOrders);
+                case ALL -> loadMixed(generator.documents(count));
+            };
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при загрузке сгенерированных документов в базу", e);
+        }
+    }
+
+    private static Iterable<? extends DisplayableDocument> documents(DocumentGenerator generator, GeneratedType type, long count) {
+        return switch (type) {
+            case INVOICES -> generator.invoices(count);
+            case PAYMENTS -> generator.payments(count);
+            case PAYMENT_ORDERS -> generator.paymentOrders(count);
+            case ALL -> generator.documents(count);
+        };
+    }
+
+    private static <T extends DisplayableDocument> long writeCsv(Path file, DocumentSchema<T, ?> schema,
+                                                                 Iterable<T> documents) throws ServiceOperationException {
+        long count = 0;
+        try (BufferedWriter writer = CompressionCodec.forFile(file).newWriter(file, StandardCharsets.UTF_8)) {
+            for (T document : documents) {
+                schema.getCsvCodec().write(document, writer);
+                writer.write(System.lineSeparator());
+                count++;
+            }
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при записи сгенерированных документов: " + file, e);
+        }
+        return count;
+    }
+
+    private <T> long load(Iterable<T> documents, ToLongFunction<List<T>> loader) {
+        long count = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T document : documents) {
+            batch.add(document);
+            if (batch.size() == batchSize) {
+                count += loader.applyAsLong(batch);
+                batch.clear();
+            }
+        }
+        return count + loader.applyAsLong(batch);
+    }
+
+    private long loadMixed(Iterable<DisplayableDocument> documents) {
+        List<Invoice> invoices = new ArrayList<>(batchSize);
+        List<Payment> payments = new ArrayList<>(batchSize);
+        List<PaymentOrder> paymentOrders = new ArrayList<>(batchSize);
+        long count = 0;
+        for (DisplayableDocument document : documents) {
+            if (document instanceof Invoice invoice) {
+                invoices.add(invoice);
+                count += flushIfFull(invoices, bulkLoadService::loadInvoices);
+            } else if (document instanceof Payment payment) {
+                payments.add(payment);
+                count += flushIfFull(payments, bulkLoadService::loadPayments);
+            } else if (document instanceof PaymentOrder paymentOrder) {
+                paymentOrders.add(paymentOrder);
+                count += flushIfFull(paymentOrders, bulkLoadService::loadPaymentOrders);
+            }
+        }
+        return count + bulkLoadService.loadInvoices(invoices) + bulkLoadService.loadPayments(payments)
+                + bulkLoadService.loadPaymentOrders(paymentOrders);
+    }
+
+    private <T> long flushIfFull(List<T> batch, ToLongFunction<List<T>> loader) {
+        if (batch.size() < batchSize) {
+            return 0;
+        }
+        long loaded = loader.applyAsLong(batch);
+        batch.clear();
+        return loaded;
+    }
+}
@@ -0,0 +1,404 @@
+package documents.service;
+
+import documents.codec.CompressionCodec;
+import documents.codec.FieldTokenizer;
+import documents.exception.ServiceOperationException;
+import documents.model.DisplayableDocument;
+import documents.model.ImportCheckpoint;
+import documents.model.ImportError;
+import documents.model.ImportReport;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.repository.ImportCheckpointRepository;
+import documents.repository.InvoiceRepository;
+import documents.repository.PaymentOrderRepository;
+import documents.repository.PaymentRepository;
+import documents.validation.DocumentValidator;
+import documents.validation.DocumentValidators;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+@Service
+public class DocumentImportService {
+
+    public static final String REJECTED_SUFFIX = ".rejected";
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentOrderRepository paymentOrderRepository;
+    private final InvoiceProcessingService invoiceProcessingService;
+    private final PaymentProcessingService paymentProcessingService;
+    private final PaymentOrderProcessingService paymentOrderProcessingService;
+    private final ParallelDocumentReader parallelDocumentReader;
+    private final BulkLoadService bulkLoadService;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final int batchSize;
+    private final boolean bulkLoad;
+
+    @Autowired
+    public DocumentImportService(InvoiceRepository invoiceRepository,
+                                 PaymentRepository paymentRepository,
+                                 PaymentOrderRepository paymentOrderRepository,
+                                 InvoiceProcessingService invoiceProcessingService,
+                                 PaymentProcessingService paymentProcessingService,
+                                 PaymentOrderProcessingService paymentOrderProcessingService,
+                                 ParallelDocumentReader parallelDocumentReader,
+                                 BulkLoadService bulkLoadService,
+                                 TransactionTemplate transactionTemplate,
+                                 ImportCheckpointRepository importCheckpointRepository,
+                                 @Value("${documents.import.batch-size:1000}") int batchSize,
+                                 @Value("${documents.import.bulk-load:false}") boolean bulkLoad) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Размер пакета импорта должен быть положительным: " + batchSize);
+        }
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentOrderRepository = paymentOrderRepository;
+        this.invoiceProcessingService = invoiceProcessingService;
+        this.paymentProcessingService = paymentProcessingService;
+        this.paymentOrderProcessingService = paymentOrderProcessingService;
+        this.parallelDocumentReader = parallelDocumentReader;
+        this.bulkLoadService = bulkLoadService;
+        this.transactionTemplate = transactionTemplate;
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.batchSize = batchSize;
+        this.bulkLoad = bulkLoad;
+    }
+
+    public ImportReport importInvoices(Path file, Consumer<List<Invoice>> batchListener) throws ServiceOperationException {
+        return importInvoices(file, CompressionCodec.forFile(file), batchListener);
+    }
+
+    public ImportReport importInvoices(Path file, CompressionCodec codec,
+                                       Consumer<List<Invoice>> batchListener) throws ServiceOperationException {
+        return importLines(file, codec, "invoices",
+                validated(invoiceProcessingService::parseInvoiceFromLine, DocumentValidators.INVOICE_RECORD),
+                saver(invoiceRepository::saveAll, bulkLoadService::loadInvoices), batchListener);
+    }
+
+    public ImportReport importPayments(Path file, Consumer<List<Payment>> batchListener) throws ServiceOperationException {
+        return importPayments(file, CompressionCodec.forFile(file), batchListener);
+    }
+
+    public ImportReport importPayments(Path file, CompressionCodec codec,
+                                       Consumer<List<Payment>> batchListener) throws ServiceOperationException {
+        return importLines(file, codec, "payments",
+                validated(paymentProcessingService::parsePaymentFromLine, DocumentValidators.PAYMENT_RECORD),
+                saver(paymentRepository::saveAll, bulkLoadService::loadPayments), batchListener);
+    }
+
+    public ImportReport importPaymentOrders(Path file, Consumer<List<PaymentOrder>> batchListener) throws ServiceOperationException {
+        return importPaymentOrders(file, CompressionCodec.forFile(file), batchListener);
+    }
+
+    public ImportReport importPaymentOrders(Path file, CompressionCodec codec,
+                                            Consumer<List<PaymentOrder>> batchListener) throws ServiceOperationException {
+        return importLines(file, codec, "payment_orders",
+                validated(paymentOrderProcessingService::parsePaymentOrderFromLine, DocumentValidators.PAYMENT_ORDER_RECORD),
+                saver(paymentOrderRepository::saveAll, bulkLoadService::loadPaymentOrders), batchListener);
+    }
+
+    public long restoreDocuments(DocumentReader reader,
+                                 Consumer<List<? extends DisplayableDocument>> batchListener) throws ServiceOperationException {
+        RestoreBatch<Invoice> invoices = new RestoreBatch<>(invoiceRepository::saveAll, batchListener);
+        RestoreBatch<Payment> payments = new RestoreBatch<>(paymentRepository::saveAll, batchListener);
+        RestoreBatch<PaymentOrder> paymentOrders = new RestoreBatch<>(paymentOrderRepository::saveAll, batchListener);
+        try {
+            long count = reader.read(document -> {
+                if (document instanceof Invoice) {
+                    invoices.add((Invoice) document);
+                } else if (document instanceof Payment) {
+                    payments.add((Payment) document);
+                } else if (document instanceof PaymentOrder) {
+                    paymentOrders.add((PaymentOrder) document);
+                }
+            });
+            invoices.flush();
+            payments.flush();
+            paymentOrders.flush();
+            return count;
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при сохранении загруженных документов", e);
+        }
+    }
+
+    private static <T> Function<CharSequence, T> validated(Function<CharSequence, T> parser, DocumentValidator<T> validator) {
+        return line -> validator.requireValid(parser.apply(line));
+    }
+
+    private <T> Function<List<T>, List<T>> saver(Function<List<T>, List<T>> repositorySaver,
+                                                ToLongFunction<List<T>> bulkLoader) {
+        if (!bulkLoad) {
+            return repositorySaver;
+        }
+        return batch -> {
+            bulkLoader.applyAsLong(batch);
+            return batch;
+        };
+    }
+
+    private <T> ImportReport importLines(Path file,
+                                         CompressionCodec codec,
+                                         String documentType,
+                                         Function<CharSequence, T> parser,
+                                         Function<List<T>, List<T>> saver,
+                                         Consumer<List<T>> batchListener) throws ServiceOperationException {
+        long startedAt = System.nanoTime();
+        ImportReport.ImportReportBuilder report = ImportReport.builder();
+        List<ImportError> reported = new ArrayList<>();
+        ImportCheckpoint checkpoint = loadCheckpoint(file, documentType);
+        long resumedFromLine = checkpoint.getLineNumber();
+        long previouslyFailed = checkpoint.getRejectedCount();
+        long previouslyImported = checkpoint.getImportedCount();
+        Path rejectedFile = file.resolveSibling(file.getFileName() + REJECTED_SUFFIX);
+        BatchState<T> state = new BatchState<>(batchSize, checkpoint);
+
+        try (RejectedRowWriter rejected = new RejectedRowWriter(rejectedFile, checkpoint.getRejectedFileSize())) {
+            parallelDocumentReader.forEachChunk(file, codec, checkpoint.getByteOffset(), checkpoint.getLineNumber(),
+                    parser, chunk -> {
+                List<T> documents = chunk.getDocuments();
+                List<ImportError> errors = chunk.getErrors();
+                int nextError = 0;
+                for (int i = 0; i < documents.size(); i++) {
+                    long lineNumber = chunk.getDocumentLineNumbers()[i];
+                    while (nextError < errors.size() && errors.get(nextError).getLineNumber() < lineNumber) {
+                        reject(errors.get(nextError++), rejected, reported, checkpoint);
+                    }
+                    state.add(documents.get(i), lineNumber, chunk.getDocumentEndOffsets()[i]);
+                    if (state.batch.size() == batchSize) {
+                        saveBatch(state, rejected, saver, batchListener);
+                    }
+                }
+                while (nextError < errors.size()) {
+                    reject(errors.get(nextError++), rejected, reported, checkpoint);
+                }
+                state.totalLines = chunk.getFirstLineNumber() + chunk.getLineCount() - 1;
+            });
+            if (!state.batch.isEmpty()) {
+                saveBatch(state, rejected, saver, batchListener);
+            }
+            importCheckpointRepository.deleteById(checkpoint.getImportKey());
+            if (rejected.isOpened()) {
+                report.rejectedFile(rejectedFile);
+            }
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при записи отклонённых строк: " + rejectedFile, e);
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при сохранении контрольной точки импорта: " + file, e);
+        }
+
+        return report
+                .totalLines(Math.max(state.totalLines, resumedFromLine))
+                .importedCount(checkpoint.getImportedCount())
+                .batchCount(checkpoint.getBatchCount())
+                .resumedFromLine(resumedFromLine)
+                .previouslyFailedCount(previouslyFailed)
+                .failedCount(checkpoint.getRejectedCount() - previouslyFailed)
+                .errors(reported)
+                .previouslyImportedCount(previouslyImported)
+                .elapsed(Duration.ofNanos(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    private ImportCheckpoint loadCheckpoint(Path file, String documentType) throws ServiceOperationException {
+        long size;
+        long modified;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при чтении файла: " + file, e);
+        }
+        String importKey = documentType + ":" + file.toAbsolutePath().normalize();
+        try {
+            return importCheckpointRepository.findById(importKey)
+                    .filter(checkpoint -> checkpoint.matches(size, modified))
+                    .orElseGet(() -> ImportCheckpoint.builder()
+                            .importKey(importKey)
+                            .fileSize(size)
+                            .fileModified(modified)
+                            .build());
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при чтении контрольной точки импорта: " + file, e);
+        }
+    }
+
+    private static void reject(ImportError error,
+                               RejectedRowWriter rejected,
+                               List<ImportError> reported,
+                               ImportCheckpoint checkpoint) throws ServiceOperationException {
+        try {
+            rejected.write(error);
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при записи отклонённой строки " + error.getLineNumber(), e);
+        }
+        if (reported.size() < MAX_REPORTED_ERRORS) {
+            reported.add(error);
+        }
+        checkpoint.setRejectedCount(checkpoint.getRejectedCount() + 1);
+    }
+
+    private <T> void saveBatch(BatchState<T> state,
+                               RejectedRowWriter rejected,
+                               Function<List<T>, List<T>> saver,
+                               Consumer<List<T>> batchListener) throws ServiceOperationException {
+        List<T> batch = state.batch;
+        ImportCheckpoint checkpoint = state.checkpoint;
+        try {
+            checkpoint.setRejectedFileSize(rejected.flush());
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при записи отклонённых строк", e);
+        }
+        checkpoint.setByteOffset(state.lastOffset);
+        checkpoint.setLineNumber(state.lastLine);
+        checkpoint.setBatchCount(checkpoint.getBatchCount() + 1);
+        checkpoint.setImportedCount(checkpoint.getImportedCount() + batch.size());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+
+        List<T> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<T> result = saver.apply(batch);
+                importCheckpointRepository.save(checkpoint);
+                return result;
+            });
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при сохранении пакета, последняя строка: " + state.lastLine, e);
+        }
+        if (batchListener != null && saved != null) {
+            batchListener.accept(saved);
+        }
+        state.batch = new ArrayList<>(batchSize);
+    }
+
+    private static class BatchState<T> {
+
+        private final ImportCheckpoint checkpoint;
+        private List<T> batch;
+        private long lastLine;
+        private long lastOffset;
+        private long totalLines;
+
+        BatchState(int batchSize, ImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        void add(T document, long lineNumber, long endOffset) {
+            batch.add(document);
+            lastLine = lineNumber;
+            lastOffset = endOffset;
+        }
+    }
+
+    @FunctionalInterface
+    public interface DocumentReader {
+
+        long read(Consumer<DisplayableDocument> consumer) throws ServiceOperationException;
+    }
+
+    private class RestoreBatch<T extends DisplayableDocument> {
+
+        private final Function<List<T>, List<T>> saver;
+        private final Consumer<List<? extends DisplayableDocument>> batchListener;
+        private List<T> batch = new ArrayList<>(batchSize);
+
+        RestoreBatch(Function<List<T>, List<T>> saver, Consumer<List<? extends DisplayableDocument>> batchListener) {
+            this.saver = saver;
+            this.batchListener = batchListener;
+        }
+
+        void add(T document) {
+            batch.add(document);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<T> saved = transactionTemplate.execute(status -> saver.apply(batch));
+            batch = new ArrayList<>(batchSize);
+            if (batchListener != null && saved != null) {
+                batchListener.accept(saved);
+            }
+        }
+    }
+
+    private static class RejectedRowWriter implements Closeable {
+
+        private final Path file;
+        private final long committedSize;
+        private FileChannel channel;
+        private Writer writer;
+
+        RejectedRowWriter(Path file, long committedSize) throws IOException {
+            this.file = file;
+            this.committedSize = committedSize;
+            if (committedSize == 0) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        boolean isOpened() {
+            return channel != null || Files.exists(file);
+        }
+
+        void write(ImportError error) throws IOException {
+            if (writer == null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                channel.truncate(committedSize);
+                channel.position(committedSize);
+                writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            }
+            writer.write(Long.toString(error.getLineNumber()));
+            writer.write(',');
+            writer.write(FieldTokenizer.escape(error.getMessage()));
+            writer.write(',');
+            writer.write(error.getLine());
+            writer.write('\n');
+        }
+
+        long flush() throws IOException {
+            if (writer == null) {
+                return committedSize;
+            }
+            writer.flush();
+            return channel.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
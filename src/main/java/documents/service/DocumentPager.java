@@ -0,0 +1,67 @@
+package documents.service;
+
+import documents.exception.ServiceOperationException;
+import documents.model.DocumentRow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/** Постраничный обход по ключу последней строки. Не потокобезопасен. */
+public final class DocumentPager {
+
+    private final PageSource source;
+    private final Comparator<DocumentRow> order;
+    private final int pageSize;
+    private final NavigableSet<DocumentRow> skipped;
+
+    private DocumentRow last;
+    private boolean exhausted;
+
+    public DocumentPager(PageSource source, Comparator<DocumentRow> order, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Размер страницы должен быть положительным: " + pageSize);
+        }
+        this.source = source;
+        this.order = order;
+        this.pageSize = pageSize;
+        this.skipped = new TreeSet<>(order);
+    }
+
+    public List<DocumentRow> nextPage() throws ServiceOperationException {
+        List<DocumentRow> page = new ArrayList<>(pageSize);
+        while (page.isEmpty() && !exhausted) {
+            List<DocumentRow> fetched = source.fetch(last, pageSize);
+            exhausted = fetched.size() < pageSize;
+            for (DocumentRow row : fetched) {
+                if (!skipped.remove(row)) {
+                    page.add(row);
+                }
+                last = row;
+            }
+            if (last != null) {
+                // Отмеченные строки, которых не оказалось среди прочитанных (например, удалённые), больше не встретятся.
+                skipped.headSet(last, true).clear();
+            }
+        }
+        return page;
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public void skip(DocumentRow row) {
+        if (!exhausted && row.getId() != null && (last == null || order.compare(row, last) > 0)) {
+            skipped.add(row);
+        }
+    }
+
+    @FunctionalInterface
+    public interface PageSource {
+
+        List<DocumentRow> fetch(DocumentRow after, int limit) throws ServiceOperationException;
+    }
+}
@@ -0,0 +1,146 @@
+package documents.service;
+
+import documents.exception.ServiceOperationException;
+import documents.model.DocumentFilter;
+import documents.model.DocumentRow;
+import documents.model.DocumentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Общий список документов: каждая таблица читается по своему индексу (date, id), страницы сливаются в памяти.
+ */
+@Service
+public class DocumentQueryService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DocumentQueryService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<DocumentRow> findFirstPage(DocumentFilter filter, int limit) throws ServiceOperationException {
+        return findPageAfter(filter, null, limit);
+    }
+
+    public List<DocumentRow> findPageAfter(DocumentFilter filter, DocumentRow after, int limit) throws ServiceOperationException {
+        List<DocumentRow> rows = new ArrayList<>();
+        for (DocumentType type : DocumentType.values()) {
+            if (filter.getTypes().isEmpty() || filter.getTypes().contains(type)) {
+                rows.addAll(findTablePageAfter(type, filter, after, limit));
+            }
+        }
+        Comparator<DocumentRow> order = filter.isDescending() ? DocumentRow.LIST_ORDER.reversed() : DocumentRow.LIST_ORDER;
+        rows.sort(order);
+        return rows.size() > limit ? new ArrayList<>(rows.subList(0, limit)) : rows;
+    }
+
+    public long count(DocumentFilter filter) throws ServiceOperationException {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        List<String> conditions = conditions(parameters, filter);
+        if (!filter.getTypes().isEmpty() && filter.getTypes().size() < DocumentType.values().length) {
+            conditions.add(0, "document_type IN (:types)");
+            parameters.addValue("types", filter.getTypes().stream().map(Enum::name).toList());
+        }
+        StringBuilder sql = new StringBuilder("SELECT count(*) FROM documents");
+        appendWhere(sql, conditions);
+        try {
+            Long count = jdbcTemplate.queryForObject(sql.toString(), parameters, Long.class);
+            return count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при подсчёте документов", e);
+        }
+    }
+
+    private List<DocumentRow> findTablePageAfter(DocumentType type, DocumentFilter filter, DocumentRow after,
+                                                 int limit) throws ServiceOperationException {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        List<String> conditions = conditions(parameters, filter);
+        if (after != null) {
+            conditions.add(afterCondition(type, filter.isDescending(), after));
+            parameters.addValue("afterDate", after.getDate());
+            parameters.addValue("afterId", after.getId());
+        }
+        StringBuilder sql = new StringBuilder(256)
+                .append("SELECT id, number, date, user_name, amount FROM ").append(type.getTable());
+        appendWhere(sql, conditions);
+        String direction = filter.isDescending() ? " DESC" : "";
+        sql.append(" ORDER BY date").append(direction)
+                .append(", id").append(direction)
+                .append(" LIMIT :limit");
+        parameters.addValue("limit", limit);
+        RowMapper<DocumentRow> rowMapper = (resultSet, rowNumber) -> new DocumentRow(
+                type,
+                resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getObject(3, LocalDate.class),
+                resultSet.getString(4),
+                resultSet.getBigDecimal(5));
+        try {
+            return jdbcTemplate.query(sql.toString(), parameters, rowMapper);
+        } catch (DataAccessException e) {
+            throw new ServiceOperationException("Ошибка при чтении списка документов", e);
+        }
+    }
+
+    private static String afterCondition(DocumentType type, boolean descending, DocumentRow after) {
+        String beyond = descending ? "<" : ">";
+        int side = descending ? after.getType().compareTo(type) : type.compareTo(after.getType());
+        if (side > 0) {
+            return "date " + beyond + "= :afterDate";
+        }
+        if (side < 0) {
+            return "date " + beyond + " :afterDate";
+        }
+        return "date " + beyond + "= :afterDate AND (date " + beyond + " :afterDate OR id " + beyond + " :afterId)";
+    }
+
+    private static List<String> conditions(MapSqlParameterSource parameters, DocumentFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getDateFrom() != null) {
+            conditions.add("date >= :dateFrom");
+            parameters.addValue("dateFrom", filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            conditions.add("date <= :dateTo");
+            parameters.addValue("dateTo", filter.getDateTo());
+        }
+        if (filter.getUser() != null) {
+            conditions.add("user_name = :user");
+            parameters.addValue("user", filter.getUser());
+        }
+        if (filter.getNumberPrefix() != null) {
+            conditions.add("number LIKE :numberPrefix ESCAPE '\\'");
+            parameters.addValue("numberPrefix", escapeLike(filter.getNumberPrefix()) + "%");
+        }
+        return conditions;
+    }
+
+    private static void appendWhere(StringBuilder sql, List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+
+    private static String escapeLike(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 4);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
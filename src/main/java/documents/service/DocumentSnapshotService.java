@@ -0,0 +1,150 @@
+package documents.service;
+
+import documents.codec.DocumentSchema;
+import documents.codec.DocumentSchemas;
+import documents.codec.FieldDescriptor;
+import documents.codec.FieldType;
+import documents.codec.SnapshotInput;
+import documents.codec.SnapshotOutput;
+import documents.exception.ServiceOperationException;
+import documents.model.DisplayableDocument;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+public class DocumentSnapshotService {
+
+    public static final String FILE_EXTENSION = ".mds";
+
+    private static final int MAGIC = 0x4D445331;
+    private static final int VERSION = 1;
+
+    private static final int END_TAG = 0;
+
+    public static boolean isSnapshotFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    public long writeSnapshot(Path file, Iterable<? extends DisplayableDocument> documents) throws ServiceOperationException {
+        return writeSnapshot(file, DocumentSource.of(documents));
+    }
+
+    public long writeSnapshot(Path file, DocumentSource documents) throws ServiceOperationException {
+        try (SnapshotOutput out = new SnapshotOutput(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+            writeHeader(out);
+            long count = documents.forEach(document -> {
+                try {
+                    writeDocument(out, document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.writeByte(END_TAG);
+            return count;
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при сохранении снимка документов: " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new ServiceOperationException("Ошибка при сохранении снимка документов: " + file, e.getCause());
+        }
+    }
+
+    public long readSnapshot(Path file, Consumer<DisplayableDocument> consumer) throws ServiceOperationException {
+        try (SnapshotInput in = new SnapshotInput(FileChannel.open(file, StandardOpenOption.READ))) {
+            readHeader(in, file);
+            long count = 0;
+            int tag;
+            while ((tag = in.readByte()) != END_TAG) {
+                consumer.accept(readDocument(in, tag));
+                count++;
+            }
+            return count;
+        } catch (IOException | ArithmeticException e) {
+            throw new ServiceOperationException("Ошибка при чтении снимка документов: " + file, e);
+        }
+    }
+
+    private static void writeHeader(SnapshotOutput out) throws IOException {
+        out.writeByte(MAGIC >>> 24);
+        out.writeByte(MAGIC >>> 16);
+        out.writeByte(MAGIC >>> 8);
+        out.writeByte(MAGIC);
+        out.writeVarLong(VERSION);
+    }
+
+    private static void readHeader(SnapshotInput in, Path file) throws IOException, ServiceOperationException {
+        int magic = in.readByte() << 24 | in.readByte() << 16 | in.readByte() << 8 | in.readByte();
+        if (magic != MAGIC) {
+            throw new ServiceOperationException("Файл не является снимком документов: " + file);
+        }
+        long version = in.readVarLong();
+        if (version != VERSION) {
+            throw new ServiceOperationException("Неподдерживаемая версия снимка документов: " + version);
+        }
+    }
+
+    private static void writeDocument(SnapshotOutput out, DisplayableDocument document) throws IOException {
+        DocumentSchema<?, ?> schema = DocumentSchemas.forDocument(document);
+        out.writeByte(DocumentSchemas.all().indexOf(schema) + 1);
+        writeFields(out, schema, document);
+    }
+
+    private static <T extends DisplayableDocument, B> void writeFields(SnapshotOutput out, DocumentSchema<T, B> schema,
+                                                                     DisplayableDocument document) throws IOException {
+        T typed = schema.cast(document);
+        for (FieldDescriptor<T, B, ?> field : schema.getFields()) {
+            writeValue(out, field, field.get(typed));
+        }
+    }
+
+    private static void writeValue(SnapshotOutput out, FieldDescriptor<?, ?, ?> field, Object value) throws IOException {
+        switch (field.getType().getKind()) {
+            case INTEGER -> out.writeNullableInt((Integer) value);
+            case TEXT -> {
+                if (field.isDictionary()) {
+                    out.writeDictionaryString((String) value);
+                } else {
+                    out.writeString((String) value);
+                }
+            }
+            case DATE -> out.writeDate((LocalDate) value);
+            case DECIMAL -> out.writeDecimal((BigDecimal) value);
+        }
+    }
+
+    private static DisplayableDocument readDocument(SnapshotInput in, int tag) throws IOException {
+        List<DocumentSchema<?, ?>> schemas = DocumentSchemas.all();
+        if (tag < 1 || tag > schemas.size()) {
+            throw new IOException("Неизвестный тип записи в снимке: " + tag);
+        }
+        return readFields(in, schemas.get(tag - 1));
+    }
+
+    private static <T extends DisplayableDocument, B> T readFields(SnapshotInput in, DocumentSchema<T, B> schema) throws IOException {
+        B builder = schema.newBuilder();
+        for (FieldDescriptor<T, B, ?> field : schema.getFields()) {
+            readValue(in, field, builder);
+        }
+        return schema.build(builder);
+    }
+
+    private static <B, V> void readValue(SnapshotInput in, FieldDescriptor<?, B, V> field, B builder) throws IOException {
+        FieldType<V> type = field.getType();
+        Object value = switch (type.getKind()) {
+            case INTEGER -> in.readNullableInt();
+            case TEXT -> field.isDictionary() ? in.readDictionaryString() : in.readString();
+            case DATE -> in.readDate();
+            case DECIMAL -> in.readDecimal();
+        };
+        field.set(builder, type.cast(value));
+    }
+}
@@ -0,0 +1,25 @@
+package documents.service;
+
+import documents.model.DisplayableDocument;
+
+import java.util.function.Consumer;
+
+/**
+ * Документы, которые отдаются по одному, без сборки в список.
+ */
+@FunctionalInterface
+public interface DocumentSource {
+
+    long forEach(Consumer<? super DisplayableDocument> consumer);
+
+    static DocumentSource of(Iterable<? extends DisplayableDocument> documents) {
+        return consumer -> {
+            long count = 0;
+            for (DisplayableDocument document : documents) {
+                consumer.accept(document);
+                count++;
+            }
+            return count;
+        };
+    }
+}
@@ -0,0 +1,263 @@
+package documents.service;
+
+import documents.codec.CompressionCodec;
+import documents.exception.ServiceOperationException;
+import documents.model.ExportReport;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/** Выгружает все таблицы по одному состоянию базы; на PostgreSQL — параллельно под общим снимком. */
+@Service
+public class FullExportService {
+
+    public static final String INVOICES_FILE = "invoices.csv";
+    public static final String PAYMENTS_FILE = "payments.csv";
+    public static final String PAYMENT_ORDERS_FILE = "payment_orders.csv";
+
+    private static final String INVOICES_QUERY =
+            "SELECT id, number, date, user_name, amount, currency, currency_rate, product, quantity FROM invoices ORDER BY id";
+    private static final String PAYMENTS_QUERY =
+            "SELECT id, number, date, user_name, amount, employee FROM payments ORDER BY id";
+    private static final String PAYMENT_ORDERS_QUERY =
+            "SELECT id, number, date, user_name, contractor, amount, currency, currency_rate, commission FROM payment_orders ORDER BY id";
+
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f-]+");
+
+    private final DataSource dataSource;
+    private final InvoiceProcessingService invoiceProcessingService;
+    private final PaymentProcessingService paymentProcessingService;
+    private final PaymentOrderProcessingService paymentOrderProcessingService;
+    private final int fetchSize;
+
+    @Autowired
+    public FullExportService(DataSource dataSource,
+                             InvoiceProcessingService invoiceProcessingService,
+                             PaymentProcessingService paymentProcessingService,
+                             PaymentOrderProcessingService paymentOrderProcessingService,
+                             @Value("${documents.export.fetch-size:1000}") int fetchSize) {
+        this.dataSource = dataSource;
+        this.invoiceProcessingService = invoiceProcessingService;
+        this.paymentProcessingService = paymentProcessingService;
+        this.paymentOrderProcessingService = paymentOrderProcessingService;
+        this.fetchSize = fetchSize;
+    }
+
+    public ExportReport exportAll(Path directory, CompressionCodec codec) throws ServiceOperationException {
+        long startedAt = System.nanoTime();
+        String suffix = codec.fileExtension();
+        List<TableExport<?>> tables = List.of(
+                new TableExport<>(INVOICES_QUERY, directory.resolve(INVOICES_FILE + suffix),
+                        FullExportService::mapInvoice, invoiceProcessingService::writeInvoiceForFile),
+                new TableExport<>(PAYMENTS_QUERY, directory.resolve(PAYMENTS_FILE + suffix),
+                        FullExportService::mapPayment, paymentProcessingService::writePaymentForFile),
+                new TableExport<>(PAYMENT_ORDERS_QUERY, directory.resolve(PAYMENT_ORDERS_FILE + suffix),
+                        FullExportService::mapPaymentOrder, paymentOrderProcessingService::writePaymentOrderForFile));
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ServiceOperationException("Не удалось создать каталог для выгрузки: " + directory, e);
+        }
+
+        long[] counts;
+        String snapshotId;
+        try (Connection coordinator = dataSource.getConnection()) {
+            coordinator.setAutoCommit(false);
+            coordinator.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                snapshotId = exportSnapshot(coordinator);
+                counts = snapshotId == null
+                        ? exportSequentially(coordinator, tables, codec)
+                        : exportInParallel(snapshotId, tables, codec);
+            } finally {
+                coordinator.rollback();
+            }
+        } catch (SQLException e) {
+            throw new ServiceOperationException("Ошибка при выгрузке документов из базы данных", e);
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при записи выгрузки в каталог: " + directory, e);
+        } catch (IllegalArgumentException e) {
+            throw new ServiceOperationException("Ошибка при записи выгрузки в каталог: " + directory + ": " + e.getMessage(), e);
+        }
+
+        return ExportReport.builder()
+                .directory(directory)
+                .invoiceCount(counts[0])
+                .paymentCount(counts[1])
+                .paymentOrderCount(counts[2])
+                .snapshotId(snapshotId)
+                .elapsed(Duration.ofNanos(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    private static String exportSnapshot(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            return null;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_export_snapshot()")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private long[] exportSequentially(Connection connection, List<TableExport<?>> tables,
+                                      CompressionCodec codec) throws SQLException, IOException {
+        long[] counts = new long[tables.size()];
+        for (int i = 0; i < tables.size(); i++) {
+            counts[i] = tables.get(i).export(connection, fetchSize, codec);
+        }
+        return counts;
+    }
+
+    private long[] exportInParallel(String snapshotId, List<TableExport<?>> tables,
+                                    CompressionCodec codec) throws SQLException, IOException {
+        if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new SQLException("Некорректный идентификатор снимка: " + snapshotId);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(tables.size());
+        try {
+            List<Future<Long>> futures = executor.invokeAll(tables.stream()
+                    .<Callable<Long>>map(table -> () -> exportInSnapshot(snapshotId, table, codec))
+                    .toList());
+            long[] counts = new long[futures.size()];
+            for (int i = 0; i < futures.size(); i++) {
+                counts[i] = futures.get(i).get();
+            }
+            return counts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Выгрузка прервана", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new SQLException("Ошибка при выгрузке таблицы", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long exportInSnapshot(String snapshotId, TableExport<?> table,
+                                  CompressionCodec codec) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+                }
+                return table.export(connection, fetchSize, codec);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static Invoice mapInvoice(ResultSet resultSet) throws SQLException {
+        return Invoice.builder()
+                .id(resultSet.getInt("id"))
+                .number(resultSet.getString("number"))
+                .date(resultSet.getObject("date", LocalDate.class))
+                .user(resultSet.getString("user_name"))
+                .amount(resultSet.getBigDecimal("amount"))
+                .currency(resultSet.getString("currency"))
+                .currencyRate(resultSet.getBigDecimal("currency_rate"))
+                .product(resultSet.getString("product"))
+                .quantity(resultSet.getBigDecimal("quantity"))
+                .build();
+    }
+
+    private static Payment mapPayment(ResultSet resultSet) throws SQLException {
+        return Payment.builder()
+                .id(resultSet.getInt("id"))
+                .number(resultSet.getString("number"))
+                .date(resultSet.getObject("date", LocalDate.class))
+                .user(resultSet.getString("user_name"))
+                .amount(resultSet.getBigDecimal("amount"))
+                .employee(resultSet.getString("employee"))
+                .build();
+    }
+
+    private static PaymentOrder mapPaymentOrder(ResultSet resultSet) throws SQLException {
+        return PaymentOrder.builder()
+                .id(resultSet.getInt("id"))
+                .number(resultSet.getString("number"))
+                .date(resultSet.getObject("date", LocalDate.class))
+                .user(resultSet.getString("user_name"))
+                .contractor(resultSet.getString("contractor"))
+                .amount(resultSet.getBigDecimal("amount"))
+                .currency(resultSet.getString("currency"))
+                .currencyRate(resultSet.getBigDecimal("currency_rate"))
+                .commission(resultSet.getBigDecimal("commission"))
+                .build();
+    }
+
+    private interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    private interface LineWriter<T> {
+        void write(T document, Appendable out) throws IOException;
+    }
+
+    private static class TableExport<T> {
+
+        private final String query;
+        private final Path file;
+        private final RowMapper<T> mapper;
+        private final LineWriter<T> formatter;
+
+        TableExport(String query, Path file, RowMapper<T> mapper, LineWriter<T> formatter) {
+            this.query = query;
+            this.file = file;
+            this.mapper = mapper;
+            this.formatter = formatter;
+        }
+
+        long export(Connection connection, int fetchSize, CompressionCodec codec) throws SQLException, IOException {
+            long count = 0;
+            try (PreparedStatement statement = connection.prepareStatement(query);
+                 BufferedWriter writer = codec.newWriter(file, StandardCharsets.UTF_8)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        formatter.write(mapper.map(resultSet), writer);
+                        writer.write(System.lineSeparator());
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -1,25 +1,36 @@
 package documents.service;
 
+import documents.codec.CompressionCodec;
+import documents.codec.DocumentSchemas;
 import documents.exception.ServiceOperationException;
 import documents.model.Invoice;
 import documents.repository.InvoiceRepository;
+import documents.validation.DocumentValidators;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
     public InvoiceService(InvoiceRepository invoiceRepository) {
         this.invoiceRepository = invoiceRepository;
@@ -38,33 +49,35 @@ public class InvoiceService {
         return invoiceRepository.findAll();
     }
 
+    public List<Invoice> getInvoicesByIds(Collection<Integer> ids) {
+        return invoiceRepository.findAllById(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachInvoice(Consumer<Invoice> consumer) {
+        long count = 0;
+        try (Stream<Invoice> invoices = invoiceRepository.streamAll()) {
+            Iterator<Invoice> iterator = invoices.iterator();
+            while (iterator.hasNext()) {
+                Invoice invoice = iterator.next();
+                consumer.accept(invoice);
+                entityManager.detach(invoice);
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Transactional
     public void deleteInvoice(Integer id) {
         invoiceRepository.deleteById(id);
     }
 
     public Invoice loadInvoiceFromFile(String filename) throws ServiceOperationException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String number = reader.readLine().split(": ")[1];
-            LocalDate date = LocalDate.parse(reader.readLine().split(": ")[1]);
-            String user = reader.readLine().split(": ")[1];
-            BigDecimal amount = new BigDecimal(reader.readLine().split(": ")[1]);
-            String currency = reader.readLine().split(": ")[1];
-            BigDecimal currencyRate = new BigDecimal(reader.readLine().split(": ")[1]);
-            String product = reader.readLine().split(": ")[1];
-            BigDecimal quantity = new BigDecimal(reader.readLine().split(": ")[1]);
-
-            return Invoice.builder()
-                    .number(number)
-                    .date(date)
-                    .user(user)
-                    .amount(amount)
-                    .currency(currency)
-                    .currencyRate(currencyRate)
-                    .product(product)
-                    .quantity(quantity)
-                    .build();
-        } catch (IOException e) {
+        Path file = Path.of(filename);
+        try (BufferedReader reader = CompressionCodec.forFile(file).newReader(file, StandardCharsets.UTF_8)) {
+            return DocumentValidators.INVOICE_RECORD.requireValid(DocumentSchemas.INVOICE.getFileCodec().read(reader));
+        } catch (IOException | IllegalArgumentException e) {
             throw new ServiceOperationException("Ошибка при чтении накладной из файла: " + filename, e);
         }
     }
@@ -0,0 +1,261 @@
+package documents.service;
+
+import documents.codec.CompressionCodec;
+import documents.codec.Utf8Bytes;
+import documents.exception.ServiceOperationException;
+import documents.model.ImportError;
+import documents.model.ParsedChunk;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+@Service
+public class ParallelDocumentReader {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+
+    private final ForkJoinPool pool;
+    private final long minChunkSize;
+
+    public ParallelDocumentReader() {
+        this(ForkJoinPool.commonPool(), MIN_CHUNK_SIZE);
+    }
+
+    public ParallelDocumentReader(ForkJoinPool pool, long minChunkSize) {
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    public <T> void forEachChunk(Path file,
+                                 Function<CharSequence, T> parser,
+                                 ChunkHandler<T> handler) throws ServiceOperationException {
+        forEachChunk(file, CompressionCodec.forFile(file), parser, handler);
+    }
+
+    public <T> void forEachChunk(Path file,
+                                 CompressionCodec codec,
+                                 Function<CharSequence, T> parser,
+                                 ChunkHandler<T> handler) throws ServiceOperationException {
+        forEachChunk(file, codec, 0, 0, parser, handler);
+    }
+
+    public <T> void forEachChunk(Path file,
+                                 CompressionCodec codec,
+                                 long startOffset,
+                                 long linesBefore,
+                                 Function<CharSequence, T> parser,
+                                 ChunkHandler<T> handler) throws ServiceOperationException {
+        try {
+            if (codec.isCompressed()) {
+                try (InputStream in = codec.newInputStream(file)) {
+                    in.skipNBytes(startOffset);
+                    readStream(in, startOffset, linesBefore, parser, handler);
+                }
+            } else {
+                readMapped(file, startOffset, linesBefore, parser, handler);
+            }
+        } catch (IOException e) {
+            throw new ServiceOperationException("Ошибка при чтении файла: " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new ServiceOperationException("Ошибка при чтении файла: " + file, e.getCause());
+        }
+    }
+
+    private <T> void readMapped(Path file,
+                                long startOffset,
+                                long linesBefore,
+                                Function<CharSequence, T> parser,
+                                ChunkHandler<T> handler) throws IOException, ServiceOperationException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = chunkSize(size);
+            int window = pool.getParallelism() * 2;
+            Deque<ForkJoinTask<ParsedChunk<T>>> inFlight = new ArrayDeque<>(window);
+            long nextStart = startOffset;
+            long lineNumber = linesBefore;
+
+            while (nextStart < size || !inFlight.isEmpty()) {
+                while (nextStart < size && inFlight.size() < window) {
+                    long end = findChunkEnd(channel, nextStart + chunkSize, size);
+                    ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, nextStart, end - nextStart);
+                    inFlight.addLast(pool.submit(new ChunkTask<>(region, end, parser)));
+                    nextStart = end;
+                }
+                ParsedChunk<T> chunk = inFlight.removeFirst().join();
+                handler.handle(shiftLineNumbers(chunk, lineNumber));
+                lineNumber += chunk.getLineCount();
+            }
+        }
+    }
+
+    private <T> void readStream(InputStream in,
+                                long startOffset,
+                                long linesBefore,
+                                Function<CharSequence, T> parser,
+                                ChunkHandler<T> handler) throws IOException, ServiceOperationException {
+        int chunkSize = (int) Math.min(minChunkSize, MAX_CHUNK_SIZE);
+        int window = pool.getParallelism() * 2;
+        Deque<ForkJoinTask<ParsedChunk<T>>> inFlight = new ArrayDeque<>(window);
+        byte[] carry = new byte[0];
+        long offset = startOffset;
+        long lineNumber = linesBefore;
+        boolean eof = false;
+
+        while (!eof || !inFlight.isEmpty()) {
+            while (!eof && inFlight.size() < window) {
+                byte[] buffer = Arrays.copyOf(carry, carry.length + chunkSize);
+                int read = in.readNBytes(buffer, carry.length, chunkSize);
+                int length = carry.length + read;
+                eof = read < chunkSize;
+                int end = eof ? length : lastLineEnd(buffer, length);
+                if (end == 0 && !eof) {
+                    carry = Arrays.copyOf(buffer, length);
+                    continue;
+                }
+                carry = Arrays.copyOfRange(buffer, end, length);
+                offset += end;
+                if (end > 0) {
+                    inFlight.addLast(pool.submit(new ChunkTask<>(ByteBuffer.wrap(buffer, 0, end), offset, parser)));
+                }
+            }
+            if (inFlight.isEmpty()) {
+                break;
+            }
+            ParsedChunk<T> chunk = inFlight.removeFirst().join();
+            handler.handle(shiftLineNumbers(chunk, lineNumber));
+            lineNumber += chunk.getLineCount();
+        }
+    }
+
+    private static int lastLineEnd(byte[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private long chunkSize(long fileSize) {
+        long perCore = fileSize / pool.getParallelism() + 1;
+        return Math.min(Math.max(perCore, minChunkSize), MAX_CHUNK_SIZE);
+    }
+
+    private long findChunkEnd(FileChannel channel, long from, long size) throws IOException {
+        if (from >= size) {
+            return size;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private <T> ParsedChunk<T> shiftLineNumbers(ParsedChunk<T> chunk, long linesBefore) {
+        if (linesBefore == 0) {
+            return chunk;
+        }
+        List<ImportError> errors = new ArrayList<>(chunk.getErrors().size());
+        for (ImportError error : chunk.getErrors()) {
+            errors.add(new ImportError(error.getLineNumber() + linesBefore, error.getMessage(), error.getLine()));
+        }
+        long[] documentLineNumbers = chunk.getDocumentLineNumbers().clone();
+        for (int i = 0; i < documentLineNumbers.length; i++) {
+            documentLineNumbers[i] += linesBefore;
+        }
+        return new ParsedChunk<>(chunk.getFirstLineNumber() + linesBefore, chunk.getLineCount(),
+                chunk.getEndOffset(), chunk.getDocuments(), errors, documentLineNumbers, chunk.getDocumentEndOffsets());
+    }
+
+    public interface ChunkHandler<T> {
+        void handle(ParsedChunk<T> chunk) throws ServiceOperationException;
+    }
+
+    @SuppressWarnings("serial") // задача живёт только внутри пула и не сериализуется
+    private static class ChunkTask<T> extends RecursiveTask<ParsedChunk<T>> {
+
+        private final ByteBuffer bytes;
+        private final long end;
+        private final Function<CharSequence, T> parser;
+
+        ChunkTask(ByteBuffer bytes, long end, Function<CharSequence, T> parser) {
+            this.bytes = bytes;
+            this.end = end;
+            this.parser = parser;
+        }
+
+        @Override
+        protected ParsedChunk<T> compute() {
+            long start = end - bytes.remaining();
+            int origin = bytes.position();
+            int limit = bytes.limit();
+            Utf8Bytes line = new Utf8Bytes();
+            List<T> documents = new ArrayList<>();
+            List<ImportError> errors = new ArrayList<>();
+            long[] lineNumbers = new long[64];
+            long[] endOffsets = new long[64];
+            long lineNumber = 0;
+            int lineStart = origin;
+
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && bytes.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int next = Math.min(lineEnd + 1, limit);
+                if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                lineNumber++;
+                line.reset(bytes, lineStart, lineEnd);
+                if (!line.isBlank()) {
+                    try {
+                        documents.add(parser.apply(line));
+                        int index = documents.size() - 1;
+                        if (index == lineNumbers.length) {
+                            lineNumbers = Arrays.copyOf(lineNumbers, index * 2);
+                            endOffsets = Arrays.copyOf(endOffsets, index * 2);
+                        }
+                        lineNumbers[index] = lineNumber;
+                        endOffsets[index] = start + next - origin;
+                    } catch (IllegalArgumentException | DateTimeException e) {
+                        errors.add(new ImportError(lineNumber, e.getMessage(), line.toString()));
+                    }
+                }
+                lineStart = next;
+            }
+            return new ParsedChunk<>(1, lineNumber, end, documents, errors,
+                    Arrays.copyOf(lineNumbers, documents.size()), Arrays.copyOf(endOffsets, documents.size()));
+        }
+    }
+}
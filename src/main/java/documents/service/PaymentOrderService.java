@@ -1,27 +1,37 @@
 package documents.service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import documents.codec.CompressionCodec;
+import documents.codec.DocumentSchemas;
 import documents.exception.ServiceOperationException;
 import documents.model.PaymentOrder;
 import documents.repository.PaymentOrderRepository;
+import documents.validation.DocumentValidators;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PaymentOrderService {
 
     private final PaymentOrderRepository paymentOrderRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
     public PaymentOrderService(PaymentOrderRepository paymentOrderRepository) {
         this.paymentOrderRepository = paymentOrderRepository;
@@ -37,6 +47,25 @@ public class PaymentOrderService {
         return paymentOrderRepository.findAll();
     }
 
+    public List<PaymentOrder> getPaymentOrdersByIds(Collection<Integer> ids) {
+        return paymentOrderRepository.findAllById(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachPaymentOrder(Consumer<PaymentOrder> consumer) {
+        long count = 0;
+        try (Stream<PaymentOrder> paymentOrders = paymentOrderRepository.streamAll()) {
+            Iterator<PaymentOrder> iterator = paymentOrders.iterator();
+            while (iterator.hasNext()) {
+                PaymentOrder paymentOrder = iterator.next();
+                consumer.accept(paymentOrder);
+                entityManager.detach(paymentOrder);
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Transactional(readOnly = true)
     public PaymentOrder getPaymentOrderById(Integer id) {
         return paymentOrderRepository.findById(id)
@@ -65,42 +94,19 @@ public class PaymentOrderService {
     }
 
     public void savePaymentOrderToFile(PaymentOrder paymentOrder, String filename) throws ServiceOperationException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            writer.write("Number: " + paymentOrder.getNumber() + "\n");
-            writer.write("Date: " + paymentOrder.getDate().toString() + "\n");
-            writer.write("User: " + paymentOrder.getUser() + "\n");
-            writer.write("Contractor: " + paymentOrder.getContractor() + "\n");
-            writer.write("Amount: " + paymentOrder.getAmount().toPlainString() + "\n");
-            writer.write("Currency: " + paymentOrder.getCurrency() + "\n");
-            writer.write("Currency Rate: " + paymentOrder.getCurrencyRate().toPlainString() + "\n");
-            writer.write("Commission: " + paymentOrder.getCommission().toPlainString() + "\n");
+        Path file = Path.of(filename);
+        try (BufferedWriter writer = CompressionCodec.forFile(file).newWriter(file, StandardCharsets.UTF_8)) {
+            DocumentSchemas.PAYMENT_ORDER.getFileCodec().write(paymentOrder, writer);
         } catch (IOException e) {
             throw new ServiceOperationException("Ошибка при сохранении платежного поручения в файл: " + filename, e);
         }
     }
 
     public PaymentOrder loadPaymentOrderFromFile(String filename) throws ServiceOperationException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String number = reader.readLine().split(": ")[1];
-            LocalDate date = LocalDate.parse(reader.readLine().split(": ")[1]);
-            String user = reader.readLine().split(": ")[1];
-            String contractor = reader.readLine().split(": ")[1];
-            BigDecimal amount = new BigDecimal(reader.readLine().split(": ")[1]);
-            String currency = reader.readLine().split(": ")[1];
-            BigDecimal currencyRate = new BigDecimal(reader.readLine().split(": ")[1]);
-            BigDecimal commission = new BigDecimal(reader.readLine().split(": ")[1]);
-
-            return PaymentOrder.builder()
-                    .number(number)
-                    .date(date)
-                    .user(user)
-                    .contractor(contractor)
-                    .amount(amount)
-                    .currency(currency)
-                    .currencyRate(currencyRate)
-                    .commission(commission)
-                    .build();
-        } catch (IOException e) {
+        Path file = Path.of(filename);
+        try (BufferedReader reader = CompressionCodec.forFile(file).newReader(file, StandardCharsets.UTF_8)) {
+            return DocumentValidators.PAYMENT_ORDER_RECORD.requireValid(DocumentSchemas.PAYMENT_ORDER.getFileCodec().read(reader));
+        } catch (IOException | IllegalArgumentException e) {
             throw new ServiceOperationException("Ошибка при чтении платежного поручения из файла: " + filename, e);
         }
     }
@@ -1,27 +1,37 @@
 package documents.service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import documents.codec.CompressionCodec;
+import documents.codec.DocumentSchemas;
 import documents.exception.ServiceOperationException;
 import documents.model.Payment;
 import documents.repository.PaymentRepository;
+import documents.validation.DocumentValidators;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
     public PaymentService(PaymentRepository paymentRepository) {
         this.paymentRepository = paymentRepository;
@@ -37,6 +47,25 @@ public class PaymentService {
         return paymentRepository.findAll();
     }
 
+    public List<Payment> getPaymentsByIds(Collection<Integer> ids) {
+        return paymentRepository.findAllById(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachPayment(Consumer<Payment> consumer) {
+        long count = 0;
+        try (Stream<Payment> payments = paymentRepository.streamAll()) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                Payment payment = iterator.next();
+                consumer.accept(payment);
+                entityManager.detach(payment);
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Transactional(readOnly = true)
     public Payment getPaymentById(Integer id) {
         return paymentRepository.findById(id)
@@ -62,33 +91,19 @@ public class PaymentService {
     }
 
     public void savePaymentToFile(Payment payment, String filename) throws ServiceOperationException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            writer.write("Number: " + payment.getNumber() + "\n");
-            writer.write("Date: " + payment.getDate().toString() + "\n");
-            writer.write("User: " + payment.getUser() + "\n");
-            writer.write("Amount: " + payment.getAmount().toPlainString() + "\n");
-            writer.write("Employee: " + payment.getEmployee() + "\n");
+        Path file = Path.of(filename);
+        try (BufferedWriter writer = CompressionCodec.forFile(file).newWriter(file, StandardCharsets.UTF_8)) {
+            DocumentSchemas.PAYMENT.getFileCodec().write(payment, writer);
         } catch (IOException e) {
             throw new ServiceOperationException("Ошибка при сохранении платежки в файл: " + filename, e);
         }
     }
 
     public Payment loadPaymentFromFile(String filename) throws ServiceOperationException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String number = reader.readLine().split(": ")[1];
-            LocalDate date = LocalDate.parse(reader.readLine().split(": ")[1]);
-            String user = reader.readLine().split(": ")[1];
-            BigDecimal amount = new BigDecimal(reader.readLine().split(": ")[1]);
-            String employee = reader.readLine().split(": ")[1];
-
-            return Payment.builder()
-                    .number(number)
-                    .date(date)
-                    .user(user)
-                    .amount(amount)
-                    .employee(employee)
-                    .build();
-        } catch (IOException e) {
+        Path file = Path.of(filename);
+        try (BufferedReader reader = CompressionCodec.forFile(file).newReader(file, StandardCharsets.UTF_8)) {
+            return DocumentValidators.PAYMENT_RECORD.requireValid(DocumentSchemas.PAYMENT.getFileCodec().read(reader));
+        } catch (IOException | IllegalArgumentException e) {
             throw new ServiceOperationException("Ошибка при чтении платежки из файла: " + filename, e);
         }
     }
@@ -0,0 +1,52 @@
+package documents.validation;
+
+/** Набор допустимых символов в битовой таблице, без регулярных выражений. */
+public final class CharClass {
+
+    public static final CharClass DIGITS = range('0', '9');
+    public static final CharClass LETTERS = range('a', 'z').or(range('A', 'Z')).or(range('а', 'я')).or(range('А', 'Я'));
+    public static final CharClass LETTERS_AND_SPACES = LETTERS.or(of(' '));
+
+    private final long[] bits;
+
+    private CharClass(long[] bits) {
+        this.bits = bits;
+    }
+
+    public static CharClass range(char from, char to) {
+        long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (int c = from; c <= to; c++) {
+            bits[c >>> 6] |= 1L << c;
+        }
+        return new CharClass(bits);
+    }
+
+    public static CharClass of(char... chars) {
+        long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (char c : chars) {
+            bits[c >>> 6] |= 1L << c;
+        }
+        return new CharClass(bits);
+    }
+
+    public CharClass or(CharClass other) {
+        long[] union = bits.clone();
+        for (int i = 0; i < union.length; i++) {
+            union[i] |= other.bits[i];
+        }
+        return new CharClass(union);
+    }
+
+    public boolean contains(char c) {
+        return (bits[c >>> 6] & 1L << c) != 0;
+    }
+
+    public boolean containsAll(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!contains(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,106 @@
+package documents.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class DocumentValidator<T> {
+
+    private static final String MISSING_VALUE = "значение не заполнено";
+
+    private final List<FieldRule<T>> rules;
+
+    private DocumentValidator(List<FieldRule<T>> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public List<Violation> validate(T document) {
+        List<Violation> violations = null;
+        for (FieldRule<T> rule : rules) {
+            violations = rule.check(rule.getter.apply(document), violations);
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    public List<Violation> validateInput(Map<String, ?> input) {
+        List<Violation> violations = null;
+        for (FieldRule<T> rule : rules) {
+            violations = rule.check(input.get(rule.label), violations);
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    public T requireValid(T document) {
+        List<Violation> violations = validate(document);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Некорректные значения: " + violations.stream()
+                    .map(Violation::toString)
+                    .collect(Collectors.joining("; ")));
+        }
+        return document;
+    }
+
+    public static final class Builder<T> {
+
+        private final List<FieldRule<T>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> required(String label, Function<T, ?> getter) {
+            rules.add(new FieldRule<>(label, getter, null, false));
+            return this;
+        }
+
+        public Builder<T> field(String label, Function<T, ?> getter, TextRule rule) {
+            rules.add(new FieldRule<>(label, getter, rule, false));
+            return this;
+        }
+
+        public Builder<T> optional(String label, Function<T, ?> getter, TextRule rule) {
+            rules.add(new FieldRule<>(label, getter, rule, true));
+            return this;
+        }
+
+        public DocumentValidator<T> build() {
+            return new DocumentValidator<>(rules);
+        }
+    }
+
+    private static final class FieldRule<T> {
+
+        private final String label;
+        private final Function<T, ?> getter;
+        private final TextRule rule;
+        private final boolean optional;
+
+        FieldRule(String label, Function<T, ?> getter, TextRule rule, boolean optional) {
+            this.label = label;
+            this.getter = getter;
+            this.rule = rule;
+            this.optional = optional;
+        }
+
+        List<Violation> check(Object value, List<Violation> violations) {
+            if (value == null) {
+                return optional ? violations : add(violations, new Violation(label, MISSING_VALUE));
+            }
+            if (rule != null && !rule.matchesValue(value)) {
+                return add(violations, new Violation(label, rule.getDescription()));
+            }
+            return violations;
+        }
+
+        private static List<Violation> add(List<Violation> violations, Violation violation) {
+            List<Violation> result = violations == null ? new ArrayList<>(2) : violations;
+            result.add(violation);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package documents.validation;
+
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+
+/** Правила {@code *_RECORD} повторяют ограничения столбцов и мягче правил форм. */
+public final class DocumentValidators {
+
+    public static final String NUMBER = "Номер";
+    public static final String DATE = "Дата";
+    public static final String USER = "Пользователь";
+    public static final String AMOUNT = "Сумма";
+    public static final String CURRENCY = "Валюта";
+    public static final String CURRENCY_RATE = "Курс валюты";
+    public static final String PRODUCT = "Товар";
+    public static final String QUANTITY = "Количество";
+    public static final String EMPLOYEE = "Сотрудник";
+    public static final String CONTRACTOR = "Контрагент";
+    public static final String COMMISSION = "Комиссия";
+
+    private static final TextRule NAME = TextRule.of(CharClass.LETTERS_AND_SPACES, "допустимы только буквы и пробелы");
+    private static final TextRule CODE = TextRule.of(CharClass.LETTERS, "допустимы только буквы");
+    private static final TextRule TEXT_COLUMN = TextRule.varchar(255);
+    private static final TextRule DECIMAL_COLUMN = TextRule.numeric(10, 2);
+
+    public static final DocumentValidator<Invoice> INVOICE = DocumentValidator.<Invoice>builder()
+            .field(NUMBER, Invoice::getNumber, TextRule.DIGITS)
+            .required(DATE, Invoice::getDate)
+            .field(USER, Invoice::getUser, NAME)
+            .field(AMOUNT, Invoice::getAmount, TextRule.DECIMAL)
+            .field(CURRENCY, Invoice::getCurrency, CODE)
+            .field(CURRENCY_RATE, Invoice::getCurrencyRate, TextRule.DECIMAL)
+            .field(PRODUCT, Invoice::getProduct, NAME)
+            .field(QUANTITY, Invoice::getQuantity, TextRule.DECIMAL)
+            .build();
+
+    public static final DocumentValidator<Payment> PAYMENT = DocumentValidator.<Payment>builder()
+            .field(NUMBER, Payment::getNumber, TextRule.DIGITS)
+            .required(DATE, Payment::getDate)
+            .field(USER, Payment::getUser, NAME)
+            .field(EMPLOYEE, Payment::getEmployee, NAME)
+            .field(AMOUNT, Payment::getAmount, TextRule.DECIMAL)
+            .build();
+
+    public static final DocumentValidator<PaymentOrder> PAYMENT_ORDER = DocumentValidator.<PaymentOrder>builder()
+            .field(NUMBER, PaymentOrder::getNumber, TextRule.DIGITS)
+            .required(DATE, PaymentOrder::getDate)
+            .field(USER, PaymentOrder::getUser, NAME)
+            .field(CONTRACTOR, PaymentOrder::getContractor, NAME)
+            .field(AMOUNT, PaymentOrder::getAmount, TextRule.DECIMAL)
+            .field(CURRENCY, PaymentOrder::getCurrency, NAME)
+            .field(CURRENCY_RATE, PaymentOrder::getCurrencyRate, TextRule.DECIMAL)
+            .field(COMMISSION, PaymentOrder::getCommission, TextRule.DECIMAL)
+            .build();
+
+    public static final DocumentValidator<Invoice> INVOICE_RECORD = DocumentValidator.<Invoice>builder()
+            .field(NUMBER, Invoice::getNumber, TEXT_COLUMN)
+            .required(DATE, Invoice::getDate)
+            .field(USER, Invoice::getUser, TEXT_COLUMN)
+            .field(AMOUNT, Invoice::getAmount, DECIMAL_COLUMN)
+            .optional(CURRENCY, Invoice::getCurrency, TEXT_COLUMN)
+            .optional(CURRENCY_RATE, Invoice::getCurrencyRate, DECIMAL_COLUMN)
+            .optional(PRODUCT, Invoice::getProduct, TEXT_COLUMN)
+            .optional(QUANTITY, Invoice::getQuantity, DECIMAL_COLUMN)
+            .build();
+
+    public static final DocumentValidator<Payment> PAYMENT_RECORD = DocumentValidator.<Payment>builder()
+            .field(NUMBER, Payment::getNumber, TEXT_COLUMN)
+            .required(DATE, Payment::getDate)
+            .field(USER, Payment::getUser, TEXT_COLUMN)
+            .field(EMPLOYEE, Payment::getEmployee, TEXT_COLUMN)
+            .field(AMOUNT, Payment::getAmount, DECIMAL_COLUMN)
+            .build();
+
+    public static final DocumentValidator<PaymentOrder> PAYMENT_ORDER_RECORD = DocumentValidator.<PaymentOrder>builder()
+            .field(NUMBER, PaymentOrder::getNumber, TEXT_COLUMN)
+            .required(DATE, PaymentOrder::getDate)
+            .field(USER, PaymentOrder::getUser, TEXT_COLUMN)
+            .field(CONTRACTOR, PaymentOrder::getContractor, TEXT_COLUMN)
+            .field(AMOUNT, PaymentOrder::getAmount, DECIMAL_COLUMN)
+            .optional(CURRENCY, PaymentOrder::getCurrency, TEXT_COLUMN)
+            .optional(CURRENCY_RATE, PaymentOrder::getCurrencyRate, DECIMAL_COLUMN)
+            .optional(COMMISSION, PaymentOrder::getCommission, DECIMAL_COLUMN)
+            .build();
+
+    private DocumentValidators() {
+    }
+}
@@ -0,0 +1,113 @@
+package documents.validation;
+
+import java.math.BigDecimal;
+
+public final class TextRule {
+
+    public static final TextRule DIGITS = new TextRule(Shape.INTEGER, CharClass.DIGITS, "ожидаются только цифры");
+    public static final TextRule DECIMAL = new TextRule(Shape.DECIMAL, CharClass.DIGITS, "ожидается неотрицательное число, например 12.50");
+
+    private final Shape shape;
+    private final CharClass chars;
+    private final int maxLength;
+    private final BigDecimal limit;
+    private final String description;
+
+    private TextRule(Shape shape, CharClass chars, String description) {
+        this(shape, chars, Integer.MAX_VALUE, null, description);
+    }
+
+    private TextRule(Shape shape, CharClass chars, int maxLength, BigDecimal limit, String description) {
+        this.shape = shape;
+        this.chars = chars;
+        this.maxLength = maxLength;
+        this.limit = limit;
+        this.description = description;
+    }
+
+    public static TextRule of(CharClass chars, String description) {
+        return new TextRule(Shape.WORD, chars, description);
+    }
+
+    public static TextRule varchar(int maxLength) {
+        return new TextRule(Shape.VARCHAR, null, maxLength, null,
+                "допустимо не больше " + maxLength + " символов в одну строку");
+    }
+
+    public static TextRule numeric(int precision, int scale) {
+        // Значения от 10^(precision - scale) - 0.5 * 10^-scale по модулю округляются до числа, которое уже не помещается.
+        BigDecimal limit = BigDecimal.TEN.pow(precision - scale).subtract(BigDecimal.valueOf(5, scale + 1));
+        return new TextRule(Shape.NUMERIC, null, Integer.MAX_VALUE, limit,
+                "ожидается число не больше чем с " + (precision - scale) + " цифрами до точки");
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean matches(CharSequence text) {
+        int length = text.length();
+        return switch (shape) {
+            case WORD -> chars.containsAll(text, 0, length);
+            case INTEGER -> length > 0 && chars.containsAll(text, 0, length);
+            case DECIMAL -> matchesDecimal(text, length);
+            case VARCHAR -> length <= maxLength && isSingleLine(text, length);
+            case NUMERIC -> matchesNumeric(text);
+        };
+    }
+
+    public boolean matchesValue(Object value) {
+        if (value instanceof CharSequence text) {
+            return matches(text);
+        }
+        if (shape == Shape.NUMERIC && value instanceof BigDecimal number) {
+            return fits(number);
+        }
+        if ((shape == Shape.INTEGER || shape == Shape.DECIMAL) && value instanceof BigDecimal number) {
+            return number.signum() >= 0 && (shape == Shape.DECIMAL || number.stripTrailingZeros().scale() <= 0);
+        }
+        if ((shape == Shape.INTEGER || shape == Shape.DECIMAL) && value instanceof Integer number) {
+            return number >= 0;
+        }
+        return matches(String.valueOf(value));
+    }
+
+    private static boolean isSingleLine(CharSequence text, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fits(BigDecimal number) {
+        return number.abs().compareTo(limit) < 0;
+    }
+
+    private boolean matchesNumeric(CharSequence text) {
+        try {
+            return fits(new BigDecimal(text.toString()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean matchesDecimal(CharSequence text, int length) {
+        int point = -1;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && point < 0) {
+                point = i;
+            } else if (!chars.contains(c)) {
+                return false;
+            }
+        }
+        return point != 0 && point != length - 1 && length > 0;
+    }
+
+    private enum Shape {
+        WORD, INTEGER, DECIMAL, VARCHAR, NUMERIC
+    }
+}
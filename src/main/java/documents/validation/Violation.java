@@ -0,0 +1,14 @@
+package documents.validation;
+
+import lombok.Value;
+
+@Value
+public class Violation {
+    String field;
+    String message;
+
+    @Override
+    public String toString() {
+        return field + ": " + message;
+    }
+}
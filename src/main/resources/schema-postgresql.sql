@@ -0,0 +1,4 @@
+-- Поиск по началу номера: обычный индекс не подходит для LIKE 'префикс%' при сортировке не в локали C.
+CREATE INDEX IF NOT EXISTS invoices_number_prefix_idx ON invoices (number varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS payments_number_prefix_idx ON payments (number varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS payment_orders_number_prefix_idx ON payment_orders (number varchar_pattern_ops);
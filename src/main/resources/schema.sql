@@ -1,5 +1,7 @@
+CREATE SEQUENCE IF NOT EXISTS invoices_id_seq INCREMENT BY 1000;
+
 CREATE TABLE IF NOT EXISTS invoices (
-  id SERIAL PRIMARY KEY,
+    id INTEGER PRIMARY KEY DEFAULT nextval('invoices_id_seq'),
     number VARCHAR(255) NOT NULL,
     date DATE NOT NULL,
     user_name VARCHAR(255) NOT NULL,
@@ -10,8 +12,10 @@ CREATE TABLE IF NOT EXISTS invoices (
     quantity DECIMAL(10, 2)
     );
 
+CREATE SEQUENCE IF NOT EXISTS payments_id_seq INCREMENT BY 1000;
+
 CREATE TABLE IF NOT EXISTS payments (
-    id SERIAL PRIMARY KEY,
+    id INTEGER PRIMARY KEY DEFAULT nextval('payments_id_seq'),
     number VARCHAR(255) NOT NULL,
     date DATE NOT NULL,
     user_name VARCHAR(255) NOT NULL,
@@ -19,8 +23,10 @@ CREATE TABLE IF NOT EXISTS payments (
     employee VARCHAR(255) NOT NULL
     );
 
+CREATE SEQUENCE IF NOT EXISTS payment_orders_id_seq INCREMENT BY 1000;
+
 CREATE TABLE IF NOT EXISTS payment_orders (
-    id SERIAL PRIMARY KEY,
+    id INTEGER PRIMARY KEY DEFAULT nextval('payment_orders_id_seq'),
     number VARCHAR(255) NOT NULL,
     date DATE NOT NULL,
     user_name VARCHAR(255) NOT NULL,
@@ -30,3 +36,45 @@ CREATE TABLE IF NOT EXISTS payment_orders (
     currency_rate DECIMAL(10, 2),
     commission DECIMAL(10, 2)
     );
+
+-- Базы, созданные со столбцами SERIAL, уже имеют эти последовательности с шагом 1.
+ALTER SEQUENCE invoices_id_seq INCREMENT BY 1000;
+ALTER SEQUENCE payments_id_seq INCREMENT BY 1000;
+ALTER SEQUENCE payment_orders_id_seq INCREMENT BY 1000;
+
+CREATE INDEX IF NOT EXISTS invoices_date_id_idx ON invoices (date, id);
+CREATE INDEX IF NOT EXISTS invoices_number_idx ON invoices (number);
+CREATE INDEX IF NOT EXISTS invoices_user_name_date_idx ON invoices (user_name, date, id);
+
+CREATE INDEX IF NOT EXISTS payments_date_id_idx ON payments (date, id);
+CREATE INDEX IF NOT EXISTS payments_number_idx ON payments (number);
+CREATE INDEX IF NOT EXISTS payments_user_name_date_idx ON payments (user_name, date, id);
+CREATE INDEX IF NOT EXISTS payments_employee_date_idx ON payments (employee, date, id);
+
+CREATE INDEX IF NOT EXISTS payment_orders_date_id_idx ON payment_orders (date, id);
+CREATE INDEX IF NOT EXISTS payment_orders_number_idx ON payment_orders (number);
+CREATE INDEX IF NOT EXISTS payment_orders_user_name_date_idx ON payment_orders (user_name, date, id);
+CREATE INDEX IF NOT EXISTS payment_orders_contractor_date_idx ON payment_orders (contractor, date, id);
+
+CREATE OR REPLACE VIEW documents AS
+    SELECT 'INVOICE' AS document_type, id, number, date, user_name, amount FROM invoices
+    UNION ALL
+    SELECT 'PAYMENT' AS document_type, id, number, date, user_name, amount FROM payments
+    UNION ALL
+    SELECT 'PAYMENT_ORDER' AS document_type, id, number, date, user_name, amount FROM payment_orders;
+
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    import_key VARCHAR(1024) PRIMARY KEY,
+    file_size BIGINT NOT NULL,
+    file_modified BIGINT NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    line_number BIGINT NOT NULL,
+    batch_count BIGINT NOT NULL,
+    imported_count BIGINT NOT NULL,
+    rejected_count BIGINT NOT NULL,
+    rejected_file_size BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+    );
+
+-- Базы, созданные с итоговой суммой импорта, содержат лишний столбец imported_amount.
+ALTER TABLE import_checkpoints DROP COLUMN IF EXISTS imported_amount;
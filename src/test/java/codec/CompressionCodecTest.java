@@ -0,0 +1,96 @@
+package codec;
+
+import documents.codec.CompressionCodec;
+import documents.codec.PipelinedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCodecIsChosenByExtension() {
+        assertSame(CompressionCodec.NONE, CompressionCodec.forFile(Path.of("payments.csv")));
+        assertSame(CompressionCodec.GZIP, CompressionCodec.forFile(Path.of("payments.csv.GZ")));
+        assertTrue(CompressionCodec.forFile(Path.of("payments.csv.deflate")).isCompressed());
+        assertFalse(CompressionCodec.NONE.isCompressed());
+    }
+
+    @Test
+    void testRoundTripThroughAllCodecs() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            text.append(i).append(",2023-01-01,Пользователь,100.50,Сотрудник\n");
+        }
+        for (CompressionCodec codec : new CompressionCodec[]{CompressionCodec.NONE, CompressionCodec.GZIP, CompressionCodec.deflate(1)}) {
+            Path file = tempDir.resolve("payments-" + codec.toString().replace(':', '-'));
+            try (BufferedWriter writer = codec.newWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(text.toString());
+            }
+
+            StringBuilder read = new StringBuilder();
+            try (BufferedReader reader = codec.newReader(file, StandardCharsets.UTF_8)) {
+                reader.lines().forEach(line -> read.append(line).append('\n'));
+            }
+
+            assertEquals(text.toString(), read.toString(), codec.toString());
+        }
+    }
+
+    @Test
+    void testGzipFilesAreReadableByStandardTools() throws Exception {
+        Path file = tempDir.resolve("payments.csv.gz");
+        try (BufferedWriter writer = CompressionCodec.gzip(9).newWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("1,2023-01-01,User,100,Employee\n");
+        }
+
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("1,2023-01-01,User,100,Employee\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testFlushWritesPendingBytesBeforeClose() throws Exception {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (PipelinedOutputStream out = new PipelinedOutputStream(target, 1024)) {
+            out.write("1,2023-01-01,User,100,Employee\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            assertEquals("1,2023-01-01,User,100,Employee\n", target.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testCorruptedInputIsReported() throws Exception {
+        Path file = tempDir.resolve("payments.csv.gz");
+        Files.writeString(file, "not compressed");
+
+        assertThrows(IOException.class, () -> {
+            try (BufferedReader reader = CompressionCodec.GZIP.newReader(file, StandardCharsets.UTF_8)) {
+                reader.readLine();
+            }
+        });
+    }
+
+    @Test
+    void testRejectsInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodec.deflate(10));
+    }
+}
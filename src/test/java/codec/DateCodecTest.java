@@ -0,0 +1,71 @@
+package codec;
+
+import documents.codec.DateCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateCodecTest {
+
+    @Test
+    void testDecodeReturnsCodesInsteadOfThrowing() {
+        assertEquals(LocalDate.of(2024, 2, 29), DateCodec.toLocalDate(DateCodec.decode("x2024-02-29", 1, 11)));
+        assertEquals(DateCodec.MALFORMED, DateCodec.decode("2024-2-29", 0, 9));
+        assertEquals(DateCodec.MALFORMED, DateCodec.decode("2024/02/29", 0, 10));
+        assertEquals(DateCodec.MALFORMED, DateCodec.decode("20x4-02-29", 0, 10));
+        assertEquals(DateCodec.INVALID_DATE, DateCodec.decode("2023-02-29", 0, 10));
+        assertEquals(DateCodec.INVALID_DATE, DateCodec.decode("2023-13-01", 0, 10));
+        assertEquals(DateCodec.INVALID_DATE, DateCodec.decode("2023-04-31", 0, 10));
+    }
+
+    @Test
+    void testDecodeBytes() {
+        ByteBuffer bytes = ByteBuffer.wrap("1,2023-12-31,x".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(LocalDate.of(2023, 12, 31), DateCodec.toLocalDate(DateCodec.decode(bytes, 2, 12)));
+        assertEquals(DateCodec.MALFORMED, DateCodec.decode(bytes, 0, 10));
+    }
+
+    @Test
+    void testRepeatedDatesAreCached() {
+        LocalDate first = DateCodec.parse("2023-05-17", 0, 10);
+
+        assertSame(first, DateCodec.parse("2023-05-17", 0, 10));
+        assertEquals(LocalDate.of(2023, 5, 18), DateCodec.parse("2023-05-18", 0, 10));
+    }
+
+    @Test
+    void testZeroCacheSizeDisablesCache() {
+        DateCodec.setCacheSize(0);
+        try {
+            LocalDate first = DateCodec.parse("2023-05-17", 0, 10);
+
+            assertNotSame(first, DateCodec.parse("2023-05-17", 0, 10));
+            assertEquals(first, DateCodec.parse("2023-05-17", 0, 10));
+        } finally {
+            DateCodec.setCacheSize(DateCodec.DEFAULT_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    void testParseStillThrowsForCallersExpectingException() {
+        DateTimeParseException e = assertThrows(DateTimeParseException.class, () -> DateCodec.parse("2023-02-30", 0, 10));
+        assertTrue(e.getMessage().contains(DateCodec.describe(DateCodec.INVALID_DATE)));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("0099-01-05", DateCodec.format(LocalDate.of(99, 1, 5)));
+        assertEquals("2023-11-30", DateCodec.format(LocalDate.of(2023, 11, 30)));
+        assertEquals(LocalDate.of(12345, 1, 1).toString(), DateCodec.format(LocalDate.of(12345, 1, 1)));
+    }
+}
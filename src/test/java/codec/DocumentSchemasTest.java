@@ -0,0 +1,130 @@
+package codec;
+
+import documents.codec.DocumentSchema;
+import documents.codec.DocumentSchemas;
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentSchemasTest {
+
+    private final Invoice invoice = new Invoice(1, "1,23", LocalDate.of(2023, 1, 1), "Пользователь",
+            new BigDecimal("1000"), "USD", new BigDecimal("1"), "Товар", new BigDecimal("10.50"));
+    private final PaymentOrder paymentOrder = new PaymentOrder(3, "125", LocalDate.of(2023, 1, 3), "User",
+            "Контрагент", new BigDecimal("300"), "EUR", new BigDecimal("1.1"), new BigDecimal("5"));
+
+    @Test
+    void testSchemaIsFoundByDocumentAndTitle() {
+        assertSame(DocumentSchemas.INVOICE, DocumentSchemas.forDocument(invoice));
+        assertSame(DocumentSchemas.PAYMENT_ORDER, DocumentSchemas.forDocument(paymentOrder));
+        assertSame(DocumentSchemas.PAYMENT, DocumentSchemas.forTitle("Платёжка"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentSchemas.forTitle("Счёт"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentSchemas.forDocument(() -> "Документ"));
+    }
+
+    @Test
+    void testEveryCodecRoundTripsEveryType() throws IOException {
+        List<DisplayableDocument> documents = List.of(invoice, paymentOrder,
+                new Payment(2, "124", LocalDate.of(2023, 1, 2), "User", new BigDecimal("200"), "Сотрудник"));
+        for (DisplayableDocument document : documents) {
+            assertRoundTrip(DocumentSchemas.forDocument(document), document);
+        }
+    }
+
+    @Test
+    void testDetailsUseDetailsLabelsWithoutId() {
+        String expected = String.join("\n",
+                "Информация о заявке на оплату:",
+                "Номер: 125",
+                "Дата: 2023-01-03",
+                "Пользователь: User",
+                "Контрагент: Контрагент",
+                "Сумма: 300",
+                "Валюта: EUR",
+                "Курс валюты: 1.1",
+                "Комиссия: 5");
+        assertEquals(expected, DocumentSchemas.toDetails(paymentOrder));
+    }
+
+    @Test
+    void testFileCodecWritesPlainDecimalsAndReadsWholeValue() throws IOException {
+        Invoice withColon = new Invoice(1, "1,23", LocalDate.of(2023, 1, 1), "Пользователь",
+                new BigDecimal("1E+3"), "USD", new BigDecimal("1"), "Товар: серый", new BigDecimal("10.50"));
+        StringWriter out = new StringWriter();
+        DocumentSchemas.INVOICE.getFileCodec().write(withColon, out);
+
+        assertEquals(String.join("\n",
+                "Number: 1,23",
+                "Date: 2023-01-01",
+                "User: Пользователь",
+                "Amount: 1000",
+                "Currency: USD",
+                "Currency Rate: 1",
+                "Product: Товар: серый",
+                "Quantity: 10.50",
+                ""), out.toString());
+        Invoice read = DocumentSchemas.INVOICE.getFileCodec().read(new BufferedReader(new StringReader(out.toString())));
+        assertEquals("Товар: серый", read.getProduct());
+    }
+
+    @Test
+    void testWritersMatchFormatForEveryTarget() throws IOException {
+        Invoice quoted = new Invoice(1, "1,23", LocalDate.of(2023, 1, 1), "Пользователь \"А\"",
+                new BigDecimal("1E+3"), "USD", new BigDecimal("0.00000001"), "Товар", new BigDecimal("10.50"));
+        String csv = DocumentSchemas.INVOICE.getCsvCodec().format(quoted);
+        assertEquals("\"1,23\",2023-01-01,\"Пользователь \"\"А\"\"\",1E+3,USD,1E-8,Товар,10.50", csv);
+
+        StringWriter writer = new StringWriter();
+        DocumentSchemas.INVOICE.getCsvCodec().write(quoted, writer);
+        assertEquals(csv, writer.toString());
+
+        StringBuilder builder = new StringBuilder("> ");
+        DocumentSchemas.INVOICE.getBlockCodec().write(quoted, builder);
+        assertEquals("> " + DocumentSchemas.INVOICE.getBlockCodec().format(quoted), builder.toString());
+
+        CharBuffer buffer = CharBuffer.allocate(256);
+        DocumentSchemas.INVOICE.getCsvCodec().write(quoted, buffer);
+        assertEquals(csv, buffer.flip().toString());
+
+        StringWriter file = new StringWriter();
+        DocumentSchemas.INVOICE.getFileCodec().write(quoted, file);
+        assertTrue(file.toString().contains("Currency Rate: 0.00000001\n"));
+    }
+
+    @Test
+    void testFileCodecRejectsTruncatedFile() {
+        BufferedReader reader = new BufferedReader(new StringReader("Number: 1\nDate: 2023-01-01\n"));
+        assertThrows(IOException.class, () -> DocumentSchemas.PAYMENT.getFileCodec().read(reader));
+    }
+
+    private static <T extends DisplayableDocument, B> void assertRoundTrip(DocumentSchema<T, B> schema,
+                                                                         DisplayableDocument document) throws IOException {
+        T typed = schema.cast(document);
+        String block = schema.getBlockCodec().format(typed);
+        assertEquals(typed, schema.getBlockCodec().parse(block.substring(block.indexOf('\n') + 1)));
+
+        T fromCsv = schema.getCsvCodec().parse(schema.getCsvCodec().format(typed));
+        assertEquals(typed.toString().replaceFirst("id=\\d+", "id=null"), fromCsv.toString());
+
+        StringWriter file = new StringWriter();
+        schema.getFileCodec().write(typed, file);
+        T fromFile = schema.getFileCodec().read(new BufferedReader(new StringReader(file.toString())));
+        assertEquals(schema.getCsvCodec().format(typed), schema.getCsvCodec().format(fromFile));
+    }
+}
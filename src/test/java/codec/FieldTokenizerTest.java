@@ -0,0 +1,58 @@
+package codec;
+
+import documents.codec.FieldTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldTokenizerTest {
+
+    private final FieldTokenizer tokenizer = new FieldTokenizer();
+
+    @Test
+    void testPlainFields() {
+        tokenizer.reset("123,2023-01-01,User,100.50");
+
+        assertEquals(4, tokenizer.fieldCount());
+        assertEquals("123", tokenizer.nextText());
+        assertEquals(LocalDate.of(2023, 1, 1), tokenizer.nextDate());
+        assertEquals("User", tokenizer.nextText());
+        assertEquals(new BigDecimal("100.50"), tokenizer.nextDecimal());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    void testQuotedFields() {
+        tokenizer.reset("\"ООО \"\"Ромашка\"\", склад\",\"1,5\",");
+
+        assertEquals(3, tokenizer.fieldCount());
+        assertEquals("ООО \"Ромашка\", склад", tokenizer.nextText());
+        assertEquals("1,5", tokenizer.nextText());
+        assertEquals("", tokenizer.nextText());
+    }
+
+    @Test
+    void testEscapeRoundTrip() {
+        String value = "Товар, \"первый сорт\"";
+
+        tokenizer.reset(FieldTokenizer.escape(value) + ",10");
+
+        assertEquals(value, tokenizer.nextText());
+        assertEquals(new BigDecimal("10"), tokenizer.nextDecimal());
+        assertEquals("plain", FieldTokenizer.escape("plain"));
+    }
+
+    @Test
+    void testInvalidValues() {
+        tokenizer.reset("1x,2023-02-30");
+
+        assertThrows(NumberFormatException.class, tokenizer::nextDecimal);
+        assertThrows(DateTimeParseException.class, tokenizer::nextDate);
+    }
+}
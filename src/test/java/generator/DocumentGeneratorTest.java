@@ -0,0 +1,56 @@
+package generator;
+
+import documents.codec.DocumentSchemas;
+import documents.generator.DocumentGenerator;
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.validation.DocumentValidators;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentGeneratorTest {
+
+    @Test
+    void testSameSeedGivesSameDocuments() {
+        assertEquals(details(new DocumentGenerator(7).documents(1000)), details(new DocumentGenerator(7).documents(1000)));
+        assertNotEquals(details(new DocumentGenerator(7).documents(1000)), details(new DocumentGenerator(8).documents(1000)));
+    }
+
+    @Test
+    void testGeneratedDocumentsAreValid() {
+        DocumentGenerator generator = new DocumentGenerator(42);
+        for (Invoice invoice : generator.invoices(2000)) {
+            assertTrue(DocumentValidators.INVOICE.validate(invoice).isEmpty(), invoice::toString);
+        }
+        for (Payment payment : generator.payments(2000)) {
+            assertTrue(DocumentValidators.PAYMENT.validate(payment).isEmpty(), payment::toString);
+        }
+        for (PaymentOrder order : generator.paymentOrders(2000)) {
+            assertTrue(DocumentValidators.PAYMENT_ORDER.validate(order).isEmpty(), order::toString);
+        }
+    }
+
+    @Test
+    void testGeneratedCsvRoundTrips() {
+        for (Invoice invoice : new DocumentGenerator(3).invoices(500)) {
+            String line = DocumentSchemas.INVOICE.getCsvCodec().format(invoice);
+            assertEquals(line, DocumentSchemas.INVOICE.getCsvCodec().format(DocumentSchemas.INVOICE.getCsvCodec().parse(line)));
+        }
+    }
+
+    private static List<String> details(Iterable<DisplayableDocument> documents) {
+        List<String> lines = new ArrayList<>();
+        for (DisplayableDocument document : documents) {
+            lines.add(DocumentSchemas.toDetails(document));
+        }
+        return lines;
+    }
+}
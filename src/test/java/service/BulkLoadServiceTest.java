@@ -0,0 +1,62 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import documents.model.Payment;
+import documents.service.BulkLoadService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BulkLoadServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFallsBackToBatchedInsertsWithoutPostgres() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+                ((ConnectionCallback<Long>) invocation.getArgument(0)).doInConnection(connection));
+        when(jdbcTemplate.queryForObject("SELECT nextval('payments_id_seq')", Long.class)).thenReturn(1001L);
+        when(jdbcTemplate.batchUpdate(any(String.class), anyList(), eq(500), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+        BulkLoadService service = new BulkLoadService(jdbcTemplate, true, 500);
+        List<Payment> payments = List.of(
+                new Payment(null, "123", LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "Employee"),
+                new Payment(null, "124", LocalDate.of(2023, 1, 2), "User2", new BigDecimal("200"), "Employee2"));
+
+        long loaded = service.loadPayments(payments);
+
+        assertEquals(2, loaded);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Integer>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(
+                eq("INSERT INTO payments (id, number, date, user_name, amount, employee) VALUES (?, ?, ?, ?, ?, ?)"),
+                eq(List.of(0, 1)), eq(500), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, 1);
+        verify(statement).setObject(1, 1002, Types.INTEGER);
+        verify(statement).setObject(2, "124", Types.VARCHAR);
+    }
+}
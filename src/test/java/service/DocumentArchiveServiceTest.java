@@ -0,0 +1,54 @@
+package service;
+
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.service.DocumentArchiveService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentArchiveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DocumentArchiveService service = new DocumentArchiveService();
+
+    @Test
+    void testArchiveRoundTrip() throws Exception {
+        List<DisplayableDocument> documents = List.of(
+                new Invoice(1, "123", LocalDate.of(2023, 1, 1), "Пользователь", new BigDecimal("100"), "USD", new BigDecimal("1"), "Товар", new BigDecimal("10")),
+                new Payment(2, "124", LocalDate.of(2023, 1, 2), "User", new BigDecimal("200"), "Сотрудник"),
+                new PaymentOrder(3, "125", LocalDate.of(2023, 1, 3), "User", "Контрагент", new BigDecimal("300"), "EUR", new BigDecimal("1.1"), new BigDecimal("5")));
+        Path file = tempDir.resolve("documents.txt");
+
+        long written = service.writeArchive(file, documents);
+        List<DisplayableDocument> read = new ArrayList<>();
+        long count = service.readArchive(file, read::add);
+
+        assertEquals(3, written);
+        assertEquals(3, count);
+        assertEquals(documents, read);
+    }
+
+    @Test
+    void testReadsLegacySingleDocumentFile() throws Exception {
+        Path file = tempDir.resolve("payment.txt");
+        Files.writeString(file, "Платёжка\nID: 1\nНомер: 123\nДата: 2023-01-01\nПользователь: User\nСумма: 100\nСотрудник: Employee");
+        List<DisplayableDocument> read = new ArrayList<>();
+
+        service.readArchive(file, read::add);
+
+        assertEquals(List.of(new Payment(1, "123", LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "Employee")), read);
+    }
+}
@@ -0,0 +1,92 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import documents.model.DisplayableDocument;
+import documents.model.DocumentRow;
+import documents.model.DocumentType;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.service.DocumentDetailsService;
+import documents.service.InvoiceService;
+import documents.service.PaymentOrderService;
+import documents.service.PaymentService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentDetailsServiceTest {
+
+    @Mock
+    private InvoiceService invoiceService;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private PaymentOrderService paymentOrderService;
+
+    private final Invoice invoice = new Invoice(1, "INV001", LocalDate.of(2023, 1, 1), "User1",
+            new BigDecimal("1000.00"), "USD", new BigDecimal("1.00"), "Product1", new BigDecimal("10.00"));
+    private final Payment payment = new Payment(1, "PAY001", LocalDate.of(2023, 1, 2), "User2",
+            new BigDecimal("200.00"), "Employee1");
+
+    @Test
+    void testRecentlyOpenedDocumentsAreCached() throws Exception {
+        when(invoiceService.getInvoicesByIds(List.of(1))).thenReturn(List.of(invoice));
+        when(paymentService.getPaymentsByIds(List.of(1))).thenReturn(List.of(payment));
+        DocumentDetailsService service = new DocumentDetailsService(invoiceService, paymentService, paymentOrderService, 1);
+        DocumentRow invoiceRow = DocumentRow.of(invoice);
+        DocumentRow paymentRow = DocumentRow.of(payment);
+
+        assertSame(invoice, service.load(invoiceRow));
+        assertSame(invoice, service.load(invoiceRow));
+        assertSame(payment, service.load(paymentRow));
+        assertSame(invoice, service.load(invoiceRow));
+
+        verify(invoiceService, times(2)).getInvoicesByIds(List.of(1));
+        verify(paymentService, times(1)).getPaymentsByIds(List.of(1));
+    }
+
+    @Test
+    void testLoadAllKeepsListOrderAndSkipsDeletedDocuments() throws Exception {
+        when(invoiceService.getInvoicesByIds(List.of(2, 1))).thenReturn(List.of(invoice));
+        when(paymentService.getPaymentsByIds(List.of(1))).thenReturn(List.of(payment));
+        DocumentDetailsService service = new DocumentDetailsService(invoiceService, paymentService, paymentOrderService, 64);
+        DocumentRow deleted = new DocumentRow(DocumentType.INVOICE, 2, "INV002", LocalDate.of(2023, 1, 5), "User1",
+                new BigDecimal("1.00"));
+
+        assertEquals(List.of(payment, invoice),
+                service.loadAll(List.of(DocumentRow.of(payment), deleted, DocumentRow.of(invoice))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testForEachDocumentStreamsEveryTable() {
+        when(invoiceService.forEachInvoice(any())).thenAnswer(call -> {
+            call.getArgument(0, Consumer.class).accept(invoice);
+            return 1L;
+        });
+        when(paymentService.forEachPayment(any())).thenAnswer(call -> {
+            call.getArgument(0, Consumer.class).accept(payment);
+            return 1L;
+        });
+        DocumentDetailsService service = new DocumentDetailsService(invoiceService, paymentService, paymentOrderService, 64);
+        List<DisplayableDocument> streamed = new ArrayList<>();
+
+        assertEquals(2, service.forEachDocument(streamed::add));
+        assertEquals(List.of(invoice, payment), streamed);
+        verify(paymentOrderService).forEachPaymentOrder(any());
+    }
+}
@@ -0,0 +1,69 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import documents.model.Payment;
+import documents.service.DocumentExportService;
+import documents.service.InvoiceProcessingService;
+import documents.service.InvoiceService;
+import documents.service.PaymentOrderProcessingService;
+import documents.service.PaymentOrderService;
+import documents.service.PaymentProcessingService;
+import documents.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentExportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private InvoiceService invoiceService;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private PaymentOrderService paymentOrderService;
+
+    private DocumentExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new DocumentExportService(invoiceService, paymentService, paymentOrderService,
+                new InvoiceProcessingService(), new PaymentProcessingService(), new PaymentOrderProcessingService());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportPaymentsWritesOneLinePerStreamedPayment() throws Exception {
+        List<Payment> payments = List.of(
+                new Payment(1, "123", LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "Employee"),
+                new Payment(2, "124", LocalDate.of(2023, 1, 2), "User2", new BigDecimal("200"), "Employee2"));
+        when(paymentService.forEachPayment(any())).thenAnswer(invocation -> {
+            Consumer<Payment> consumer = invocation.getArgument(0);
+            payments.forEach(consumer);
+            return (long) payments.size();
+        });
+        Path file = tempDir.resolve("payments.csv");
+
+        long count = exportService.exportPayments(file);
+
+        assertEquals(2, count);
+        assertEquals(List.of("123,2023-01-01,User,100,Employee", "124,2023-01-02,User2,200,Employee2"),
+                Files.readAllLines(file));
+    }
+}
@@ -0,0 +1,235 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import documents.model.DisplayableDocument;
+import documents.model.ImportCheckpoint;
+import documents.model.ImportReport;
+import documents.model.Invoice;
+import documents.repository.ImportCheckpointRepository;
+import documents.repository.InvoiceRepository;
+import documents.repository.PaymentOrderRepository;
+import documents.repository.PaymentRepository;
+import documents.service.BulkLoadService;
+import documents.service.DocumentImportService;
+import documents.service.InvoiceProcessingService;
+import documents.service.ParallelDocumentReader;
+import documents.service.PaymentOrderProcessingService;
+import documents.service.PaymentProcessingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+class DocumentImportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InvoiceRepository invoiceRepository;
+    private ImportCheckpointRepository checkpointRepository;
+    private DocumentImportService service;
+
+    @BeforeEach
+    void setUp() {
+        invoiceRepository = mock(InvoiceRepository.class);
+        when(invoiceRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        checkpointRepository = mock(ImportCheckpointRepository.class);
+        service = new DocumentImportService(
+                invoiceRepository,
+                mock(PaymentRepository.class),
+                mock(PaymentOrderRepository.class),
+                new InvoiceProcessingService(),
+                new PaymentProcessingService(),
+                new PaymentOrderProcessingService(),
+                new ParallelDocumentReader(),
+                mock(BulkLoadService.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                checkpointRepository,
+                2,
+                false);
+    }
+
+    @Test
+    void testImportInvoicesInBatches() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,User,100,USD,1,Product,10",
+                "2,2023-01-02,User,200,USD,1,Product,20",
+                "3,2023-01-03,User,300,USD,1,Product,30"));
+        List<Invoice> notified = new ArrayList<>();
+
+        ImportReport report = service.importInvoices(file, notified::addAll);
+
+        assertEquals(3, report.getTotalLines());
+        assertEquals(3, report.getImportedCount());
+        assertEquals(2, report.getBatchCount());
+        assertEquals(0, report.getFailedCount());
+        assertEquals(3, notified.size());
+        verify(invoiceRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void testImportInvoicesCollectsParseErrors() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,User,100,USD,1,Product,10",
+                "2,not-a-date,User,200,USD,1,Product,20",
+                "",
+                "3,2023-01-03,User,invalid,USD,1,Product,30",
+                "4,2023-01-04,User"));
+
+        ImportReport report = service.importInvoices(file, null);
+
+        assertEquals(5, report.getTotalLines());
+        assertEquals(1, report.getImportedCount());
+        assertEquals(3, report.getFailedCount());
+        assertEquals(List.of(2L, 4L, 5L), report.getFailedLineNumbers());
+    }
+
+    @Test
+    void testReportKeepsOnlyFirstErrors() throws Exception {
+        Path file = tempDir.resolve("broken.csv");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            lines.add(i + ",not-a-date,User,100,USD,1,Product,10");
+        }
+        Files.write(file, lines);
+
+        ImportReport report = service.importInvoices(file, null);
+
+        assertEquals(150, report.getFailedCount());
+        assertEquals(100, report.getErrors().size());
+        assertEquals(1L, report.getFailedLineNumbers().get(0));
+        assertEquals(150, Files.readAllLines(report.getRejectedFile()).size());
+    }
+
+    @Test
+    void testRestoreDocumentsSavesInBatches() throws Exception {
+        List<Invoice> invoices = List.of(
+                Invoice.builder().number("1").build(),
+                Invoice.builder().number("2").build(),
+                Invoice.builder().number("3").build());
+        List<DisplayableDocument> restored = new ArrayList<>();
+
+        long count = service.restoreDocuments(consumer -> {
+            invoices.forEach(consumer);
+            return invoices.size();
+        }, restored::addAll);
+
+        assertEquals(3, count);
+        assertEquals(invoices, restored);
+        verify(invoiceRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void testRejectedLinesAreWrittenToSidecar() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,User,100,USD,1,Product,10",
+                "2,not-a-date,User,200,USD,1,Product,20"));
+
+        ImportReport report = service.importInvoices(file, null);
+
+        Path rejected = tempDir.resolve("invoices.csv" + DocumentImportService.REJECTED_SUFFIX);
+        assertEquals(rejected, report.getRejectedFile());
+        List<String> lines = Files.readAllLines(rejected);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("2,"));
+        assertTrue(lines.get(0).endsWith(",2,not-a-date,User,200,USD,1,Product,20"));
+        verify(checkpointRepository).deleteById(anyString());
+    }
+
+    @Test
+    void testCheckpointIsSavedWithEveryBatch() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,User,100,USD,1,Product,10",
+                "2,2023-01-02,User,200,USD,1,Product,20",
+                "3,2023-01-03,User,300,USD,1,Product,30"));
+        List<Long> offsets = new ArrayList<>();
+        when(checkpointRepository.save(any(ImportCheckpoint.class))).thenAnswer(invocation -> {
+            offsets.add(invocation.<ImportCheckpoint>getArgument(0).getByteOffset());
+            return invocation.getArgument(0);
+        });
+
+        service.importInvoices(file, null);
+
+        long firstTwoLines = Files.readString(file).indexOf("3,2023");
+        assertEquals(List.of(firstTwoLines, Files.size(file)), offsets);
+    }
+
+    @Test
+    void testImportResumesFromCheckpoint() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,User,100,USD,1,Product,10",
+                "2,2023-01-02,User,200,USD,1,Product,20",
+                "3,2023-01-03,User,300,USD,1,Product,30"));
+        long firstTwoLines = Files.readString(file).indexOf("3,2023");
+        when(checkpointRepository.findById(anyString())).thenReturn(Optional.of(ImportCheckpoint.builder()
+                .importKey("invoices:" + file.toAbsolutePath())
+                .fileSize(Files.size(file))
+                .fileModified(Files.getLastModifiedTime(file).toMillis())
+                .byteOffset(firstTwoLines)
+                .lineNumber(2)
+                .batchCount(1)
+                .importedCount(2)
+                .build()));
+        List<Invoice> notified = new ArrayList<>();
+
+        ImportReport report = service.importInvoices(file, notified::addAll);
+
+        assertEquals(1, notified.size());
+        assertEquals("3", notified.get(0).getNumber());
+        assertTrue(report.isResumed());
+        assertEquals(3, report.getTotalLines());
+        assertEquals(3, report.getImportedCount());
+        assertEquals(2, report.getPreviouslyImportedCount());
+        assertEquals(2, report.getBatchCount());
+    }
+
+    @Test
+    void testResumedImportRateCountsOnlyThisRun() {
+        ImportReport report = ImportReport.builder()
+                .importedCount(1000)
+                .previouslyImportedCount(900)
+                .elapsed(Duration.ofSeconds(1))
+                .build();
+
+        assertEquals(100.0, report.getRowsPerSecond());
+    }
+
+    @Test
+    void testStaleCheckpointIsIgnored() throws Exception {
+        Path file = tempDir.resolve("invoices.csv");
+        Files.write(file, List.of("1,2023-01-01,User,100,USD,1,Product,10"));
+        when(checkpointRepository.findById(anyString())).thenReturn(Optional.of(ImportCheckpoint.builder()
+                .fileSize(Files.size(file) + 1)
+                .byteOffset(10)
+                .lineNumber(1)
+                .build()));
+
+        ImportReport report = service.importInvoices(file, null);
+
+        assertFalse(report.isResumed());
+        assertEquals(1, report.getImportedCount());
+    }
+}
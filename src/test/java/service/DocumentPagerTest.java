@@ -0,0 +1,111 @@
+package service;
+
+import documents.model.DocumentRow;
+import documents.model.DocumentType;
+import documents.service.DocumentPager;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentPagerTest {
+
+    private final List<DocumentRow> rows = new ArrayList<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void testPagesContinueAfterLastRow() throws Exception {
+        for (int i = 1; i <= 7; i++) {
+            rows.add(row(DocumentType.INVOICE, i, LocalDate.of(2023, 1, i)));
+            rows.add(row(DocumentType.PAYMENT, i, LocalDate.of(2023, 1, 8 - i)));
+        }
+        DocumentPager pager = new DocumentPager(this::fetch, DocumentRow.LIST_ORDER, 3);
+
+        List<DocumentRow> all = new ArrayList<>();
+        List<DocumentRow> page;
+        while (!(page = pager.nextPage()).isEmpty()) {
+            assertTrue(page.size() <= 3);
+            all.addAll(page);
+        }
+
+        assertEquals(rows.stream().sorted(DocumentRow.LIST_ORDER).toList(), all);
+        assertTrue(pager.isExhausted());
+        assertEquals(5, fetches.get());
+    }
+
+    @Test
+    void testFirstPageIsOneQuery() throws Exception {
+        for (int i = 1; i <= 1000; i++) {
+            rows.add(row(DocumentType.PAYMENT_ORDER, i, LocalDate.of(2023, 1, 1).plusDays(i % 300)));
+        }
+        DocumentPager pager = new DocumentPager(this::fetch, DocumentRow.LIST_ORDER, 50);
+
+        assertEquals(50, pager.nextPage().size());
+        assertEquals(1, fetches.get());
+        assertFalse(pager.isExhausted());
+    }
+
+    @Test
+    void testSkippedRowIsNotReturnedAgain() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            rows.add(row(DocumentType.INVOICE, i, LocalDate.of(2023, 1, i)));
+        }
+        DocumentPager pager = new DocumentPager(this::fetch, DocumentRow.LIST_ORDER, 2);
+        assertEquals(rows.subList(0, 2), pager.nextPage());
+
+        DocumentRow created = row(DocumentType.INVOICE, 6, LocalDate.of(2023, 1, 3));
+        rows.add(created);
+        pager.skip(created);
+
+        List<DocumentRow> rest = new ArrayList<>();
+        List<DocumentRow> page;
+        while (!(page = pager.nextPage()).isEmpty()) {
+            rest.addAll(page);
+        }
+        assertEquals(rows.subList(2, 5), rest);
+    }
+
+    @Test
+    void testSkipsBehindTraversalAreIgnored() throws Exception {
+        for (int i = 1; i <= 6; i++) {
+            rows.add(row(DocumentType.PAYMENT, i, LocalDate.of(2023, 1, i)));
+        }
+        DocumentPager pager = new DocumentPager(this::fetch, DocumentRow.LIST_ORDER, 2);
+        assertEquals(rows.subList(0, 2), pager.nextPage());
+
+        // Уже пройденная строка, строка, которую удалят до того, как обход до неё дойдёт, и обычная отметка.
+        DocumentRow behind = rows.get(1);
+        DocumentRow deleted = row(DocumentType.INVOICE, 7, LocalDate.of(2023, 1, 3));
+        DocumentRow ahead = rows.get(4);
+        pager.skip(behind);
+        pager.skip(deleted);
+        pager.skip(ahead);
+
+        List<DocumentRow> rest = new ArrayList<>();
+        List<DocumentRow> page;
+        while (!(page = pager.nextPage()).isEmpty()) {
+            rest.addAll(page);
+        }
+        assertEquals(List.of(rows.get(2), rows.get(3), rows.get(5)), rest);
+    }
+
+    private List<DocumentRow> fetch(DocumentRow after, int limit) {
+        fetches.incrementAndGet();
+        return rows.stream()
+                .filter(row -> after == null || DocumentRow.LIST_ORDER.compare(row, after) > 0)
+                .sorted(DocumentRow.LIST_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    private static DocumentRow row(DocumentType type, int id, LocalDate date) {
+        return new DocumentRow(type, id, type.name() + id, date, "Пользователь", new BigDecimal("100.00"));
+    }
+}
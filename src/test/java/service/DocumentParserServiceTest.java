@@ -7,6 +7,8 @@ import documents.service.DocumentParserService;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -65,4 +67,32 @@ class DocumentParserServiceTest {
         assertEquals(expected.getCurrencyRate(), actual.getCurrencyRate());
         assertEquals(expected.getCommission(), actual.getCommission());
     }
+
+    @Test
+    void testParseToleratesReorderedFieldsAndCarriageReturns() {
+        String paymentData = "Сотрудник: Employee\r\nID: 7\r\nСумма:  100.50 \r\nДата: 2023-01-01\r\nНомер: 123\r\nПримечание: x\r\nПользователь: Иван: старший";
+
+        Payment actual = service.parsePayment(paymentData);
+
+        assertEquals(7, actual.getId());
+        assertEquals("123", actual.getNumber());
+        assertEquals(new BigDecimal("100.50"), actual.getAmount());
+        assertEquals("Иван: старший", actual.getUser());
+        assertEquals("Employee", actual.getEmployee());
+    }
+
+    @Test
+    void testParseRejectsMissingRequiredField() {
+        String paymentData = "ID: 1\nНомер: 123\nПользователь: User\nСумма: 100\nСотрудник: Employee";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.parsePayment(paymentData));
+        assertTrue(e.getMessage().contains("Дата"));
+    }
+
+    @Test
+    void testParseRejectsDuplicateField() {
+        String paymentData = "ID: 1\nID: 2\nНомер: 123\nДата: 2023-01-01\nПользователь: User\nСумма: 100\nСотрудник: Employee";
+
+        assertThrows(IllegalArgumentException.class, () -> service.parsePayment(paymentData));
+    }
 }
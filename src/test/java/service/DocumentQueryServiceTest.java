@@ -0,0 +1,110 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import documents.model.DocumentFilter;
+import documents.model.DocumentRow;
+import documents.model.DocumentType;
+import documents.service.DocumentQueryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentQueryServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFirstPageMergesTablePagesInListOrder() throws Exception {
+        DocumentRow invoice = new DocumentRow(DocumentType.INVOICE, 1, "INV001", LocalDate.of(2023, 1, 3), "User1",
+                new BigDecimal("100.00"));
+        DocumentRow payment = new DocumentRow(DocumentType.PAYMENT, 7, "PAY001", LocalDate.of(2023, 1, 2), "User2",
+                new BigDecimal("200.00"));
+        DocumentRow paymentOrder = new DocumentRow(DocumentType.PAYMENT_ORDER, 3, "PO001", LocalDate.of(2023, 1, 2),
+                "User3", new BigDecimal("300.00"));
+        when(jdbcTemplate.query(eq(firstPage("invoices")), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(invoice));
+        when(jdbcTemplate.query(eq(firstPage("payments")), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(payment));
+        when(jdbcTemplate.query(eq(firstPage("payment_orders")), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(paymentOrder));
+        DocumentQueryService service = new DocumentQueryService(jdbcTemplate);
+
+        List<DocumentRow> page = service.findFirstPage(DocumentFilter.ALL, 2);
+
+        assertEquals(List.of(payment, paymentOrder), page);
+        assertEquals("Платёжка от 2023-01-02 номер PAY001", page.get(0).getDisplayText());
+        ArgumentCaptor<MapSqlParameterSource> parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).query(eq(firstPage("invoices")), parameters.capture(), any(RowMapper.class));
+        assertEquals(2, parameters.getValue().getValue("limit"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testNextPageContinuesEachTableAfterKey() throws Exception {
+        DocumentQueryService service = new DocumentQueryService(jdbcTemplate);
+        DocumentRow after = new DocumentRow(DocumentType.PAYMENT, 7, "PAY001", LocalDate.of(2023, 1, 2), "User2",
+                new BigDecimal("200.00"));
+
+        service.findPageAfter(DocumentFilter.ALL, after, 50);
+
+        String select = "SELECT id, number, date, user_name, amount FROM ";
+        String order = " ORDER BY date, id LIMIT :limit";
+        verify(jdbcTemplate).query(eq(select + "invoices WHERE date > :afterDate" + order),
+                any(SqlParameterSource.class), any(RowMapper.class));
+        verify(jdbcTemplate).query(eq(select + "payments WHERE date >= :afterDate"
+                        + " AND (date > :afterDate OR id > :afterId)" + order),
+                any(SqlParameterSource.class), any(RowMapper.class));
+        verify(jdbcTemplate).query(eq(select + "payment_orders WHERE date >= :afterDate" + order),
+                any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFilteredDescendingPageContinuesAfterKey() throws Exception {
+        DocumentQueryService service = new DocumentQueryService(jdbcTemplate);
+        DocumentFilter filter = DocumentFilter.builder()
+                .type(DocumentType.INVOICE)
+                .dateFrom(LocalDate.of(2023, 1, 1))
+                .user("Иванов Иван")
+                .numberPrefix("10%_")
+                .descending(true)
+                .build();
+        DocumentRow after = new DocumentRow(DocumentType.INVOICE, 42, "10%_1", LocalDate.of(2023, 3, 31), "Иванов Иван",
+                new BigDecimal("1.00"));
+
+        service.findPageAfter(filter, after, 50);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), parameters.capture(), any(RowMapper.class));
+        assertEquals("SELECT id, number, date, user_name, amount FROM invoices"
+                + " WHERE date >= :dateFrom AND user_name = :user"
+                + " AND number LIKE :numberPrefix ESCAPE '\\'"
+                + " AND date <= :afterDate AND (date < :afterDate OR id < :afterId)"
+                + " ORDER BY date DESC, id DESC LIMIT :limit", sql.getValue());
+        assertEquals("10\\%\\_%", parameters.getValue().getValue("numberPrefix"));
+        assertEquals(42, parameters.getValue().getValue("afterId"));
+    }
+
+    private static String firstPage(String table) {
+        return "SELECT id, number, date, user_name, amount FROM " + table + " ORDER BY date, id LIMIT :limit";
+    }
+}
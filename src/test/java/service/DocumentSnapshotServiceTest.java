@@ -0,0 +1,70 @@
+package service;
+
+import documents.exception.ServiceOperationException;
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.service.DocumentSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DocumentSnapshotService service = new DocumentSnapshotService();
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        List<DisplayableDocument> documents = new ArrayList<>();
+        documents.add(new Invoice(1, "123", LocalDate.of(2023, 1, 1), "Пользователь", new BigDecimal("100.50"), "USD", new BigDecimal("1"), "Товар", new BigDecimal("10")));
+        documents.add(new Payment(2, "124", LocalDate.of(2022, 12, 31), "Пользователь", new BigDecimal("-200"), null));
+        documents.add(new PaymentOrder(null, "125", LocalDate.of(2023, 1, 3), "Пользователь", "Контрагент", new BigDecimal("123456789012345678901234.5"), "USD", new BigDecimal("1E+3"), null));
+        Path file = tempDir.resolve("documents.mds");
+
+        long written = service.writeSnapshot(file, documents);
+        List<DisplayableDocument> read = new ArrayList<>();
+        long count = service.readSnapshot(file, read::add);
+
+        assertEquals(3, written);
+        assertEquals(3, count);
+        assertEquals(documents, read);
+    }
+
+    @Test
+    void testRepeatedStringsAreWrittenOnce() throws Exception {
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            payments.add(new Payment(i, String.valueOf(i), LocalDate.of(2023, 1, 1).plusDays(i % 30), "Очень длинное имя пользователя", new BigDecimal("100.00"), "Сотрудник"));
+        }
+        Path file = tempDir.resolve("payments.mds");
+
+        service.writeSnapshot(file, payments);
+        List<DisplayableDocument> read = new ArrayList<>();
+        service.readSnapshot(file, read::add);
+
+        assertEquals(payments, read);
+        assertTrue(Files.size(file) < 20 * payments.size());
+    }
+
+    @Test
+    void testRejectsFileWithoutSnapshotHeader() throws Exception {
+        Path file = tempDir.resolve("documents.mds");
+        Files.writeString(file, "Платёжка\nID: 1");
+
+        assertThrows(ServiceOperationException.class, () -> service.readSnapshot(file, document -> { }));
+    }
+}
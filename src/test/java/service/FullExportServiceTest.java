@@ -0,0 +1,77 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import documents.codec.CompressionCodec;
+import documents.model.ExportReport;
+import documents.service.FullExportService;
+import documents.service.InvoiceProcessingService;
+import documents.service.PaymentOrderProcessingService;
+import documents.service.PaymentProcessingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+class FullExportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExportsAllTablesInOneTransactionWithoutPostgres() throws Exception {
+        Connection connection = mock(Connection.class);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            String query = invocation.getArgument(0);
+            int rows = query.contains("FROM invoices") ? 1 : query.contains("FROM payments") ? 2 : 0;
+            return statement(rows);
+        });
+        FullExportService service = new FullExportService(dataSource, new InvoiceProcessingService(),
+                new PaymentProcessingService(), new PaymentOrderProcessingService(), 500);
+
+        ExportReport report = service.exportAll(tempDir, CompressionCodec.NONE);
+
+        assertEquals(1, report.getInvoiceCount());
+        assertEquals(2, report.getPaymentCount());
+        assertEquals(0, report.getPaymentOrderCount());
+        assertNull(report.getSnapshotId());
+        assertEquals(List.of("number,2023-01-01,user_name,10.00,employee", "number,2023-01-01,user_name,10.00,employee"),
+                Files.readAllLines(tempDir.resolve(FullExportService.PAYMENTS_FILE)));
+        assertEquals(1, Files.readAllLines(tempDir.resolve(FullExportService.INVOICES_FILE)).size());
+        assertEquals(0, Files.size(tempDir.resolve(FullExportService.PAYMENT_ORDERS_FILE)));
+        verify(connection).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        verify(connection).rollback();
+    }
+
+    private static PreparedStatement statement(int rows) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        int[] remaining = {rows};
+        when(resultSet.next()).thenAnswer(invocation -> remaining[0]-- > 0);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(resultSet.getBigDecimal(anyString())).thenReturn(new BigDecimal("10.00"));
+        when(resultSet.getObject(anyString(), eq(LocalDate.class))).thenReturn(LocalDate.of(2023, 1, 1));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
@@ -55,4 +55,16 @@ class InvoiceProcessingServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
     }
+
+    @Test
+    void testQuotedFieldsRoundTrip() {
+        Invoice invoice = new Invoice(1, "123", LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "USD", new BigDecimal("1"), "Product, boxed", new BigDecimal("10"));
+
+        String line = service.formatInvoiceForFile(invoice);
+        Invoice actual = service.parseInvoiceFromLine(line);
+
+        assertEquals("123,2023-01-01,User,100,USD,1,\"Product, boxed\",10", line);
+        assertEquals(invoice.getProduct(), actual.getProduct());
+        assertEquals(invoice.getQuantity(), actual.getQuantity());
+    }
 }
@@ -12,17 +12,21 @@ import documents.exception.ServiceOperationException;
 import documents.model.Invoice;
 import documents.repository.InvoiceRepository;
 import documents.service.InvoiceService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 class InvoiceServiceTest {
@@ -30,6 +34,9 @@ class InvoiceServiceTest {
     @Mock
     private InvoiceRepository invoiceRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private InvoiceService invoiceService;
 
@@ -67,6 +74,22 @@ class InvoiceServiceTest {
         verify(invoiceRepository).findAll();
     }
 
+    @Test
+    void testForEachInvoiceDetachesStreamedInvoices() {
+        ReflectionTestUtils.setField(invoiceService, "entityManager", entityManager);
+        Invoice first = new Invoice(1, "123", LocalDate.now(), "User", BigDecimal.valueOf(100), "USD", BigDecimal.valueOf(1), "Product", BigDecimal.valueOf(10));
+        Invoice second = new Invoice(2, "124", LocalDate.now(), "User2", BigDecimal.valueOf(200), "EUR", BigDecimal.valueOf(0.9), "Product2", BigDecimal.valueOf(20));
+        when(invoiceRepository.streamAll()).thenReturn(Stream.of(first, second));
+        List<Invoice> consumed = new ArrayList<>();
+
+        long count = invoiceService.forEachInvoice(consumed::add);
+
+        assertEquals(2, count);
+        assertEquals(List.of(first, second), consumed);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
     @Test
     void testDeleteInvoice() {
         Integer invoiceId = 1;
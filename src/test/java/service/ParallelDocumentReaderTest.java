@@ -0,0 +1,144 @@
+package service;
+
+import documents.codec.CompressionCodec;
+import documents.codec.DocumentSchemas;
+import documents.model.ImportError;
+import documents.model.Payment;
+import documents.service.ParallelDocumentReader;
+import documents.service.PaymentProcessingService;
+import documents.validation.DocumentValidators;
+import documents.validation.Violation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelDocumentReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final PaymentProcessingService processingService = new PaymentProcessingService();
+
+    @Test
+    void testChunksAreDeliveredInFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lines.add(i + ",2023-01-01,Пользователь,100,Сотрудник");
+        }
+        lines.set(1234, "1234,broken,Пользователь,100,Сотрудник");
+        Path file = tempDir.resolve("payments.csv");
+        Files.write(file, lines);
+
+        ParallelDocumentReader reader = new ParallelDocumentReader(new ForkJoinPool(4), 1024);
+        List<Payment> payments = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+        int[] chunks = {0};
+        reader.forEachChunk(file, processingService::parsePaymentFromLine, chunk -> {
+            payments.addAll(chunk.getDocuments());
+            errors.addAll(chunk.getErrors());
+            chunks[0]++;
+        });
+
+        assertTrue(chunks[0] > 1);
+        assertEquals(4999, payments.size());
+        assertEquals("0", payments.get(0).getNumber());
+        assertEquals("1235", payments.get(1234).getNumber());
+        assertEquals("4999", payments.get(4998).getNumber());
+        assertEquals(1, errors.size());
+        assertEquals(1235, errors.get(0).getLineNumber());
+    }
+
+    @Test
+    void testLastLineWithoutNewline() throws Exception {
+        Path file = tempDir.resolve("payments.csv");
+        Files.writeString(file, "1,2023-01-01,User,100,Employee\r\n2,2023-01-02,User,200,Employee");
+
+        List<Payment> payments = new ArrayList<>();
+        new ParallelDocumentReader().forEachChunk(file, processingService::parsePaymentFromLine,
+                chunk -> payments.addAll(chunk.getDocuments()));
+
+        assertEquals(2, payments.size());
+        assertEquals("Employee", payments.get(0).getEmployee());
+        assertEquals("2", payments.get(1).getNumber());
+    }
+
+    @Test
+    void testUtf8FieldsAreDecodedFromBytes() throws Exception {
+        Path file = tempDir.resolve("payments.csv");
+        Files.write(file, List.of(
+                "1,2023-01-01,\"Иванов, Иван\",100,Сотрудник «Ёж»",
+                "2,2023-01-02,Пользователь,сто,Сотрудник"), StandardCharsets.UTF_8);
+
+        List<Payment> payments = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+        new ParallelDocumentReader().forEachChunk(file, processingService::parsePaymentFromLine, chunk -> {
+            payments.addAll(chunk.getDocuments());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(1, payments.size());
+        assertEquals("Иванов, Иван", payments.get(0).getUser());
+        assertEquals("Сотрудник «Ёж»", payments.get(0).getEmployee());
+        assertEquals(1, errors.size());
+        assertEquals("2,2023-01-02,Пользователь,сто,Сотрудник", errors.get(0).getLine());
+        assertTrue(errors.get(0).getMessage().contains("Пользователь,сто"));
+    }
+
+    @Test
+    void testValueWithNewlineIsNotSplitIntoRows() throws Exception {
+        Payment payment = new Payment(1, "1", LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "Сотрудник\nотдела");
+        assertThrows(IllegalArgumentException.class, () -> DocumentSchemas.PAYMENT.getCsvCodec().format(payment));
+        assertEquals(List.of(DocumentValidators.EMPLOYEE),
+                DocumentValidators.PAYMENT_RECORD.validate(payment).stream().map(Violation::getField).toList());
+
+        // Такую строку мог записать другой редактор CSV: обе половины отклоняются, а не загружаются по отдельности.
+        Path file = tempDir.resolve("payments.csv");
+        Files.writeString(file, "1,2023-01-01,User,100,\"Сотрудник\nотдела\"\n2,2023-01-02,User,200,Сотрудник\n");
+        List<Payment> payments = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+        new ParallelDocumentReader().forEachChunk(file, processingService::parsePaymentFromLine, chunk -> {
+            payments.addAll(chunk.getDocuments());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(List.of("2"), payments.stream().map(Payment::getNumber).toList());
+        assertEquals(List.of(1L, 2L), errors.stream().map(ImportError::getLineNumber).toList());
+    }
+
+    @Test
+    void testCompressedFileIsReadInOrder() throws Exception {
+        Path file = tempDir.resolve("payments.csv.gz");
+        try (BufferedWriter writer = CompressionCodec.GZIP.newWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 5000; i++) {
+                writer.write(i + ",2023-01-01,Пользователь,100,Сотрудник\n");
+            }
+            writer.write("broken\n");
+        }
+
+        ParallelDocumentReader reader = new ParallelDocumentReader(new ForkJoinPool(4), 1024);
+        List<Payment> payments = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+        reader.forEachChunk(file, processingService::parsePaymentFromLine, chunk -> {
+            payments.addAll(chunk.getDocuments());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(5000, payments.size());
+        assertEquals("4999", payments.get(4999).getNumber());
+        assertEquals(1, errors.size());
+        assertEquals(5001, errors.get(0).getLineNumber());
+    }
+}
@@ -0,0 +1,125 @@
+package validation;
+
+import documents.codec.DocumentSchema;
+import documents.codec.DocumentSchemas;
+import documents.model.DisplayableDocument;
+import documents.model.Invoice;
+import documents.model.Payment;
+import documents.model.PaymentOrder;
+import documents.validation.CharClass;
+import documents.validation.DocumentValidator;
+import documents.validation.DocumentValidators;
+import documents.validation.TextRule;
+import documents.validation.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentValidatorTest {
+
+    private static final String[] SAMPLES = {"", "0", "123", "12.50", ".5", "5.", "1.2.3", "-1", "1e3", "abc", "Иван Петров",
+            "ёлка", "USD", "a b", " ", "12a", "١٢"};
+
+    @Test
+    void testRulesMatchTheFormerRegularExpressions() {
+        TextRule name = TextRule.of(CharClass.LETTERS_AND_SPACES, "буквы и пробелы");
+        TextRule code = TextRule.of(CharClass.LETTERS, "буквы");
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\d+"), TextRule.DIGITS.matches(sample), sample);
+            assertEquals(sample.matches("\\d+(\\.\\d+)?"), TextRule.DECIMAL.matches(sample), sample);
+            assertEquals(sample.matches("[a-zA-Zа-яА-Я ]*"), name.matches(sample), sample);
+            assertEquals(sample.matches("[a-zA-Zа-яА-Я]*"), code.matches(sample), sample);
+        }
+    }
+
+    @Test
+    void testParsedDocumentIsValidatedByTheSameRules() {
+        assertSame(List.of(), DocumentValidators.INVOICE.validate(invoice("1", "Product", "10")));
+
+        List<Violation> violations = DocumentValidators.INVOICE.validate(invoice("1,23", "Товар 2", "-1"));
+        assertEquals(List.of(DocumentValidators.NUMBER, DocumentValidators.PRODUCT, DocumentValidators.QUANTITY),
+                violations.stream().map(Violation::getField).toList());
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> DocumentValidators.PAYMENT.requireValid(new Payment(null, "7", null, "User", BigDecimal.ONE, "Employee")));
+        assertEquals("Некорректные значения: Дата: значение не заполнено", error.getMessage());
+    }
+
+    @Test
+    void testFormInputIsValidatedAsText() {
+        Map<String, Object> input = new HashMap<>();
+        input.put(DocumentValidators.NUMBER, "12");
+        input.put(DocumentValidators.DATE, LocalDate.of(2023, 1, 1));
+        input.put(DocumentValidators.USER, "User");
+        input.put(DocumentValidators.EMPLOYEE, "Сотрудник");
+        input.put(DocumentValidators.AMOUNT, "100.5");
+        assertTrue(DocumentValidators.PAYMENT.validateInput(input).isEmpty());
+
+        input.put(DocumentValidators.AMOUNT, "");
+        input.put(DocumentValidators.DATE, null);
+        assertEquals(List.of(DocumentValidators.DATE, DocumentValidators.AMOUNT),
+                DocumentValidators.PAYMENT.validateInput(input).stream().map(Violation::getField).toList());
+    }
+
+    @Test
+    void testSeedRowsSurviveFileRoundTrip() throws IOException {
+        Invoice invoice = new Invoice(null, "INV001", LocalDate.of(2023, 1, 1), "User1", new BigDecimal("1000.00"),
+                "USD", new BigDecimal("1.00"), "Product1", new BigDecimal("10"));
+        Payment payment = new Payment(null, "PAY001", LocalDate.of(2023, 1, 2), "User2", new BigDecimal("200.00"),
+                "Employee1");
+        PaymentOrder paymentOrder = new PaymentOrder(null, "PO001", LocalDate.of(2023, 1, 3), "User3", "Contractor1",
+                new BigDecimal("3000.00"), "EUR", new BigDecimal("1.10"), new BigDecimal("30.00"));
+
+        assertRoundTrip(DocumentSchemas.INVOICE, DocumentValidators.INVOICE_RECORD, invoice);
+        assertRoundTrip(DocumentSchemas.PAYMENT, DocumentValidators.PAYMENT_RECORD, payment);
+        assertRoundTrip(DocumentSchemas.PAYMENT_ORDER, DocumentValidators.PAYMENT_ORDER_RECORD, paymentOrder);
+        assertFalse(DocumentValidators.INVOICE.validate(invoice).isEmpty());
+    }
+
+    @Test
+    void testRecordRulesFollowColumnConstraints() {
+        Invoice invoice = new Invoice(null, "№ 1/2023", LocalDate.of(2023, 1, 1), "User", new BigDecimal("-99999999.994"),
+                null, null, null, null);
+        assertSame(List.of(), DocumentValidators.INVOICE_RECORD.validate(invoice));
+
+        invoice.setNumber("1".repeat(256));
+        invoice.setAmount(new BigDecimal("99999999.995"));
+        invoice.setQuantity(new BigDecimal("100000000"));
+        assertEquals(List.of(DocumentValidators.NUMBER, DocumentValidators.AMOUNT, DocumentValidators.QUANTITY),
+                DocumentValidators.INVOICE_RECORD.validate(invoice).stream().map(Violation::getField).toList());
+
+        TextRule money = TextRule.numeric(10, 2);
+        assertTrue(money.matches("-12.5"));
+        assertFalse(money.matches("12,5"));
+        assertFalse(money.matches(""));
+    }
+
+    private static <T extends DisplayableDocument> void assertRoundTrip(DocumentSchema<T, ?> schema,
+                                                                        DocumentValidator<T> validator, T document) throws IOException {
+        StringBuilder file = new StringBuilder();
+        schema.getFileCodec().write(document, file);
+        T fromFile = schema.getFileCodec().read(new BufferedReader(new StringReader(file.toString())));
+        assertSame(fromFile, validator.requireValid(fromFile));
+
+        T fromCsv = schema.getCsvCodec().parse(schema.getCsvCodec().format(document));
+        assertSame(List.of(), validator.validate(fromCsv));
+    }
+
+    private static Invoice invoice(String number, String product, String quantity) {
+        return new Invoice(null, number, LocalDate.of(2023, 1, 1), "User", new BigDecimal("100"), "USD",
+                new BigDecimal("1"), product, new BigDecimal(quantity));
+    }
+}